@@ -0,0 +1,75 @@
+package com.foley.util.bench;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A single measured operation. Setup runs before every iteration and is not timed
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public abstract class Benchmark {
+    private String name;
+    private Map<String, String> params;
+
+    /**
+     * Creates a new benchmark
+     *
+     * @param name the name of the benchmark
+     */
+    public Benchmark(String name) {
+        this.name = name;
+        this.params = new LinkedHashMap<>();
+    }
+
+    /**
+     * Returns the name of the benchmark
+     *
+     * @return the name of the benchmark
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the parameters the benchmark runs with
+     *
+     * @return the parameters the benchmark runs with
+     */
+    public Map<String, String> getParams() {
+        return params;
+    }
+
+    /**
+     * Records a parameter the benchmark runs with
+     *
+     * @param key the parameter name
+     * @param value the parameter value
+     * @return this benchmark
+     */
+    public Benchmark param(String key, Object value) {
+        params.put(key, String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * Prepares the state for one iteration. Not timed
+     */
+    public void setup() {
+    }
+
+    /**
+     * Runs one timed iteration
+     *
+     * @return a value derived from the work done, so it cannot be optimized away
+     */
+    public abstract long run();
+
+    /**
+     * Returns the number of operations performed by one iteration
+     *
+     * @return the number of operations performed by one iteration
+     */
+    public abstract int operations();
+}
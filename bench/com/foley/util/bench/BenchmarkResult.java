@@ -0,0 +1,141 @@
+package com.foley.util.bench;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Timings collected for one benchmark
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class BenchmarkResult {
+    private Benchmark benchmark;
+    private double[] nanosPerOp;
+
+    /**
+     * Creates a new benchmark result
+     *
+     * @param benchmark the benchmark that was measured
+     * @param nanosPerOp the nanoseconds per operation of each measured iteration
+     */
+    public BenchmarkResult(Benchmark benchmark, double[] nanosPerOp) {
+        this.benchmark = benchmark;
+        this.nanosPerOp = nanosPerOp;
+    }
+
+    /**
+     * Returns the benchmark that was measured
+     *
+     * @return the benchmark that was measured
+     */
+    public Benchmark getBenchmark() {
+        return benchmark;
+    }
+
+    /**
+     * Returns the mean nanoseconds per operation
+     *
+     * @return the mean nanoseconds per operation
+     */
+    public double getMean() {
+        double sum = 0;
+        for(double t : nanosPerOp) {
+            sum += t;
+        }
+        return sum / nanosPerOp.length;
+    }
+
+    /**
+     * Returns the sample standard deviation of the nanoseconds per operation
+     *
+     * @return the sample standard deviation
+     */
+    public double getStandardDeviation() {
+        if(nanosPerOp.length < 2) {
+            return 0;
+        }
+        double mean = getMean();
+        double sum = 0;
+        for(double t : nanosPerOp) {
+            sum += (t - mean) * (t - mean);
+        }
+        return Math.sqrt(sum / (nanosPerOp.length - 1));
+    }
+
+    /**
+     * Returns the fastest nanoseconds per operation
+     *
+     * @return the fastest nanoseconds per operation
+     */
+    public double getMin() {
+        double min = Double.MAX_VALUE;
+        for(double t : nanosPerOp) {
+            min = Math.min(min, t);
+        }
+        return min;
+    }
+
+    /**
+     * Returns the result as a JSON object
+     *
+     * @return the result as a JSON object
+     */
+    public String toJson() {
+        StringBuilder build = new StringBuilder();
+        build.append("{\"benchmark\":").append(quote(benchmark.getName()));
+        build.append(",\"params\":{");
+        boolean first = true;
+        for(Map.Entry<String, String> entry : benchmark.getParams().entrySet()) {
+            if(!first) {
+                build.append(',');
+            }
+            build.append(quote(entry.getKey())).append(':').append(quote(entry.getValue()));
+            first = false;
+        }
+        build.append("},\"unit\":\"ns/op\"");
+        build.append(",\"mean\":").append(format(getMean()));
+        build.append(",\"stddev\":").append(format(getStandardDeviation()));
+        build.append(",\"min\":").append(format(getMin()));
+        build.append(",\"samples\":[");
+        for(int i = 0; i < nanosPerOp.length; i++) {
+            if(i > 0) {
+                build.append(',');
+            }
+            build.append(format(nanosPerOp[i]));
+        }
+        build.append("]}");
+        return build.toString();
+    }
+
+    /**
+     * Formats a number for JSON output
+     *
+     * @param d the number
+     * @return the formatted number
+     */
+    private static String format(double d) {
+        return String.format(Locale.ROOT, "%.3f", d);
+    }
+
+    /**
+     * Quotes a string for JSON output
+     *
+     * @param s the string
+     * @return the quoted string
+     */
+    private static String quote(String s) {
+        return "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    @Override
+    /**
+     * Returns a one line summary of the result
+     *
+     * @return a one line summary of the result
+     */
+    public String toString() {
+        return String.format(Locale.ROOT, "%-45s %-40s %14.1f ns/op  \u00B1 %.1f",
+                benchmark.getName(), benchmark.getParams(), getMean(), getStandardDeviation());
+    }
+}
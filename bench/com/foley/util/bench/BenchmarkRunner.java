@@ -0,0 +1,90 @@
+package com.foley.util.bench;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs benchmarks with a fixed number of warmup and measured iterations
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class BenchmarkRunner {
+    private int warmup;
+    private int iterations;
+    private long sink;
+
+    /**
+     * Creates a new benchmark runner
+     *
+     * @param warmup the number of untimed iterations run first
+     * @param iterations the number of timed iterations
+     */
+    public BenchmarkRunner(int warmup, int iterations) {
+        if(warmup < 0 || iterations < 1) {
+            throw new IllegalArgumentException("Warmup cannot be negative and at least one iteration must be measured");
+        }
+        this.warmup = warmup;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Runs a benchmark
+     *
+     * @param b the benchmark
+     * @return the timings of the benchmark
+     */
+    public BenchmarkResult run(Benchmark b) {
+        for(int i = 0; i < warmup; i++) {
+            b.setup();
+            sink += b.run();
+        }
+        double[] samples = new double[iterations];
+        for(int i = 0; i < iterations; i++) {
+            b.setup();
+            long start = System.nanoTime();
+            sink += b.run();
+            samples[i] = (double) (System.nanoTime() - start) / b.operations();
+        }
+        return new BenchmarkResult(b, samples);
+    }
+
+    /**
+     * Runs every benchmark, printing each result as it completes
+     *
+     * @param benchmarks the benchmarks
+     * @return the timings of every benchmark
+     */
+    public List<BenchmarkResult> runAll(List<Benchmark> benchmarks) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        for(Benchmark b : benchmarks) {
+            BenchmarkResult result = run(b);
+            System.out.println(result);
+            results.add(result);
+        }
+        // Keep the sink observable so no benchmark work is dead code
+        if(sink == 42) {
+            System.out.println();
+        }
+        return results;
+    }
+
+    /**
+     * Writes results as a JSON array
+     *
+     * @param results the results
+     * @param out the destination
+     * @throws IOException if the results cannot be written
+     */
+    public static void writeJson(List<BenchmarkResult> results, Writer out) throws IOException {
+        out.write("[\n");
+        for(int i = 0; i < results.size(); i++) {
+            out.write("  " + results.get(i).toJson());
+            out.write(i < results.size() - 1 ? ",\n" : "\n");
+        }
+        out.write("]\n");
+        out.flush();
+    }
+}
@@ -0,0 +1,238 @@
+package com.foley.util.bench;
+
+import com.foley.util.graph.*;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Benchmarks the graph package over generated graph families. Usage:
+ * GraphBenchmarks [-o results.json] [-s maxSize] [-w warmup] [-i iterations] [-f filter]
+ * where maxSize is 0 for small graphs only, 1 to include medium and 2 to include large graphs, and filter keeps only
+ * benchmarks whose name contains the text
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class GraphBenchmarks {
+    // Fixed seed so every run measures the same graphs and queries
+    private static final long SEED = 20190113L;
+    private static final int QUERIES = 16;
+
+    public static void main(String[] args) throws IOException {
+        String out = null;
+        String filter = "";
+        int maxSize = 1;
+        int warmup = 3;
+        int iterations = 5;
+        for(int i = 0; i + 1 < args.length; i += 2) {
+            switch(args[i]) {
+                case "-o":
+                    out = args[i + 1];
+                    break;
+                case "-s":
+                    maxSize = Integer.parseInt(args[i + 1]);
+                    break;
+                case "-w":
+                    warmup = Integer.parseInt(args[i + 1]);
+                    break;
+                case "-i":
+                    iterations = Integer.parseInt(args[i + 1]);
+                    break;
+                case "-f":
+                    filter = args[i + 1];
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        List<Benchmark> benchmarks = new ArrayList<>();
+        for(GraphFamily family : GraphFamily.values()) {
+            for(int size = 0; size <= maxSize; size++) {
+                for(Benchmark b : benchmarksFor(family, family.scale(size))) {
+                    if(b.getName().contains(filter)) {
+                        benchmarks.add(b);
+                    }
+                }
+            }
+        }
+
+        List<BenchmarkResult> results = new BenchmarkRunner(warmup, iterations).runAll(benchmarks);
+        if(out != null) {
+            try(Writer writer = new FileWriter(out)) {
+                BenchmarkRunner.writeJson(results, writer);
+            }
+        }
+    }
+
+    /**
+     * Creates every benchmark for one generated graph
+     *
+     * @param family the graph family
+     * @param scale the scale parameter
+     * @return the benchmarks
+     */
+    private static List<Benchmark> benchmarksFor(GraphFamily family, int scale) {
+        int n = family.vertexCount(scale);
+        int[][] edges = family.generateEdges(scale, SEED);
+        Graph<Integer> graph = family.generate(scale, SEED);
+        CompactGraph<Integer> compact = graph.freeze();
+        Heuristic<Integer> h = family.heuristic(scale);
+
+        // Query pairs shared by every pathfinder
+        Random rand = new Random(SEED);
+        int[] from = new int[QUERIES];
+        int[] to = new int[QUERIES];
+        for(int i = 0; i < QUERIES; i++) {
+            from[i] = rand.nextInt(n);
+            to[i] = rand.nextInt(n);
+        }
+
+        List<Benchmark> list = new ArrayList<>();
+        list.add(new Benchmark("Graph.addVertex") {
+            private Graph<Integer> g;
+
+            @Override
+            public void setup() {
+                g = new Graph<>();
+            }
+
+            @Override
+            public long run() {
+                for(int v = 0; v < n; v++) {
+                    g.addVertex(v);
+                }
+                return g.size();
+            }
+
+            @Override
+            public int operations() {
+                return n;
+            }
+        });
+        list.add(new Benchmark("Graph.addEdge") {
+            private Graph<Integer> g;
+
+            @Override
+            public void setup() {
+                g = new Graph<>();
+                for(int v = 0; v < n; v++) {
+                    g.addVertex(v);
+                }
+            }
+
+            @Override
+            public long run() {
+                for(int i = 0; i < edges[0].length; i++) {
+                    g.addEdge(edges[0][i], edges[1][i], edges[2][i]);
+                }
+                return g.size();
+            }
+
+            @Override
+            public int operations() {
+                return Math.max(1, edges[0].length);
+            }
+        });
+        list.add(new Benchmark("Graph.removeVertex") {
+            private Graph<Integer> g;
+
+            @Override
+            public void setup() {
+                g = family.generate(scale, SEED);
+            }
+
+            @Override
+            public long run() {
+                for(int i = 0; i < QUERIES; i++) {
+                    g.removeVertex(from[i]);
+                }
+                return g.size();
+            }
+
+            @Override
+            public int operations() {
+                return QUERIES;
+            }
+        });
+        list.add(new Benchmark("Graph.getNeighbors") {
+            @Override
+            public long run() {
+                long sum = 0;
+                for(int v = 0; v < n; v++) {
+                    for(int e : graph.getNeighbors(v)) {
+                        sum += e;
+                    }
+                }
+                return sum;
+            }
+
+            @Override
+            public int operations() {
+                return n;
+            }
+        });
+
+        addSearches(list, "BreadthFirstSearchPathfinder", BreadthFirstSearchPathfinder::new, compact, from, to);
+        addSearches(list, "DepthFirstSearchPathfinder", DepthFirstSearchPathfinder::new, compact, from, to);
+        addSearches(list, "DijkstraPathfinder", DijkstraPathfinder::new, compact, from, to);
+        addSearches(list, "AStarPathfinder", c -> new AStarPathfinder<>(c, h), compact, from, to);
+        addSearches(list, "BidirectionalBreadthFirstSearchPathfinder", BidirectionalBreadthFirstSearchPathfinder::new, compact, from, to);
+        addSearches(list, "BidirectionalDijkstraPathfinder", BidirectionalDijkstraPathfinder::new, compact, from, to);
+        addSearches(list, "ParallelBreadthFirstSearchPathfinder", ParallelBreadthFirstSearchPathfinder::new, compact, from, to);
+
+        for(Benchmark b : list) {
+            b.param("family", family).param("vertices", n).param("edges", edges[0].length);
+        }
+        return list;
+    }
+
+    /**
+     * Adds the searchGraphFrom and searchGraphTo benchmarks of a pathfinder
+     *
+     * @param list the benchmarks
+     * @param name the name of the pathfinder
+     * @param factory creates the pathfinder
+     * @param g the graph to search
+     * @param from the source of each query
+     * @param to the target of each query
+     */
+    private static void addSearches(List<Benchmark> list, String name, Function<CompactGraph<Integer>, Pathfinder<Integer>> factory,
+                                    CompactGraph<Integer> g, int[] from, int[] to) {
+        Pathfinder<Integer> finder = factory.apply(g);
+        list.add(new Benchmark(name + ".searchGraphFrom") {
+            @Override
+            public long run() {
+                finder.searchGraphFrom(from[0]);
+                return finder.getPathCostTo(to[0]);
+            }
+
+            @Override
+            public int operations() {
+                return 1;
+            }
+        });
+        list.add(new Benchmark(name + ".searchGraphTo") {
+            @Override
+            public long run() {
+                long sum = 0;
+                for(int i = 0; i < from.length; i++) {
+                    finder.searchGraphTo(from[i], to[i]);
+                    sum += finder.getPathCostTo(to[i]);
+                }
+                return sum;
+            }
+
+            @Override
+            public int operations() {
+                return from.length;
+            }
+        });
+    }
+}
@@ -0,0 +1,198 @@
+package com.foley.util.bench;
+
+import com.foley.util.graph.Graph;
+import com.foley.util.graph.Heuristic;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Families of generated graphs with int vertices 0 through n - 1 and edge costs from 1 to 10. The same seed always
+ * generates the same graph
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public enum GraphFamily {
+    /**
+     * Square grid where each vertex connects to its right and lower neighbor
+     */
+    GRID(new int[] {32, 128, 512}) {
+        @Override
+        public int vertexCount(int scale) {
+            return scale * scale;
+        }
+
+        @Override
+        protected void addEdges(int[][] edges, int scale, Random rand) {
+            for(int y = 0; y < scale; y++) {
+                for(int x = 0; x < scale; x++) {
+                    int v = y * scale + x;
+                    if(x + 1 < scale) {
+                        add(edges, v, v + 1, rand);
+                    }
+                    if(y + 1 < scale) {
+                        add(edges, v, v + scale, rand);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public Heuristic<Integer> heuristic(int scale) {
+            // Manhattan distance on the grid coordinates, admissible since every step costs at least 1
+            return (from, to) -> Math.abs(from % scale - to % scale) + Math.abs(from / scale - to / scale);
+        }
+    },
+    /**
+     * Uniformly random edges with an average of four per vertex
+     */
+    RANDOM_SPARSE(new int[] {1 << 10, 1 << 14, 1 << 18}) {
+        @Override
+        protected void addEdges(int[][] edges, int scale, Random rand) {
+            for(int i = 0; i < scale * 2; i++) {
+                add(edges, rand.nextInt(scale), rand.nextInt(scale), rand);
+            }
+        }
+    },
+    /**
+     * Preferential attachment graph where each new vertex connects to three existing vertices, chosen with
+     * probability proportional to their degree
+     */
+    SCALE_FREE(new int[] {1 << 10, 1 << 14, 1 << 18}) {
+        @Override
+        protected void addEdges(int[][] edges, int scale, Random rand) {
+            int m = 3;
+            // Every edge endpoint, so a uniform pick from it is a degree weighted pick of a vertex
+            int[] ends = new int[2 * m * scale];
+            int count = 0;
+            for(int v = 1; v < scale; v++) {
+                for(int i = 0; i < Math.min(m, v); i++) {
+                    int u = count == 0 ? 0 : ends[rand.nextInt(count)];
+                    add(edges, v, u, rand);
+                    ends[count++] = v;
+                    ends[count++] = u;
+                }
+            }
+        }
+    },
+    /**
+     * Random graph where each pair of vertices is connected with probability one half
+     */
+    DENSE(new int[] {128, 512, 1024}) {
+        @Override
+        protected void addEdges(int[][] edges, int scale, Random rand) {
+            for(int u = 0; u < scale; u++) {
+                for(int v = u + 1; v < scale; v++) {
+                    if(rand.nextBoolean()) {
+                        add(edges, u, v, rand);
+                    }
+                }
+            }
+        }
+    };
+
+    private int[] scales;
+
+    GraphFamily(int[] scales) {
+        this.scales = scales;
+    }
+
+    /**
+     * Returns the scale parameter for a size
+     *
+     * @param size the size, 0 for small, 1 for medium and 2 for large
+     * @return the scale parameter
+     */
+    public int scale(int size) {
+        return scales[size];
+    }
+
+    /**
+     * Returns the number of vertices generated for a scale
+     *
+     * @param scale the scale parameter
+     * @return the number of vertices
+     */
+    public int vertexCount(int scale) {
+        return scale;
+    }
+
+    /**
+     * Returns an admissible heuristic for the family
+     *
+     * @param scale the scale parameter
+     * @return an admissible heuristic
+     */
+    public Heuristic<Integer> heuristic(int scale) {
+        return (from, to) -> 0;
+    }
+
+    /**
+     * Generates the edge list of the family
+     *
+     * @param scale the scale parameter
+     * @param seed the random seed
+     * @return the edges as from, to and cost arrays
+     */
+    public int[][] generateEdges(int scale, long seed) {
+        int[][] edges = new int[][] {new int[16], new int[16], new int[16], new int[1]};
+        addEdges(edges, scale, new Random(seed));
+        int count = edges[3][0];
+        return new int[][] {Arrays.copyOf(edges[0], count), Arrays.copyOf(edges[1], count), Arrays.copyOf(edges[2], count)};
+    }
+
+    /**
+     * Generates a non directional graph of the family
+     *
+     * @param scale the scale parameter
+     * @param seed the random seed
+     * @return the graph
+     */
+    public Graph<Integer> generate(int scale, long seed) {
+        int n = vertexCount(scale);
+        int[][] edges = generateEdges(scale, seed);
+        Graph<Integer> g = new Graph<>();
+        for(int v = 0; v < n; v++) {
+            g.addVertex(v);
+        }
+        for(int i = 0; i < edges[0].length; i++) {
+            g.addEdge(edges[0][i], edges[1][i], edges[2][i]);
+        }
+        return g;
+    }
+
+    /**
+     * Adds the edges of the family to the growable edge list
+     *
+     * @param edges the from, to and cost arrays followed by a one element count array
+     * @param scale the scale parameter
+     * @param rand the random source
+     */
+    protected abstract void addEdges(int[][] edges, int scale, Random rand);
+
+    /**
+     * Appends an edge with a random cost, skipping self loops
+     *
+     * @param edges the from, to and cost arrays followed by a one element count array
+     * @param from the source vertex
+     * @param to the destination vertex
+     * @param rand the random source
+     */
+    protected static void add(int[][] edges, int from, int to, Random rand) {
+        int cost = 1 + rand.nextInt(10);
+        if(from == to) {
+            return;
+        }
+        int count = edges[3][0];
+        if(count == edges[0].length) {
+            for(int i = 0; i < 3; i++) {
+                edges[i] = Arrays.copyOf(edges[i], count * 2);
+            }
+        }
+        edges[0][count] = from;
+        edges[1][count] = to;
+        edges[2][count] = cost;
+        edges[3][0] = count + 1;
+    }
+}
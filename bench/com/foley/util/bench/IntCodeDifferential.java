@@ -0,0 +1,170 @@
+package com.foley.util.bench;
+
+import com.foley.util.IntCode;
+
+import java.util.Random;
+
+/**
+ * Checks that compiled int code blocks behave exactly like the interpreter. Each program is run on an interpreting and
+ * a compiling computer in equal slices, and after every slice, or when either one throws, their memory, relative base,
+ * current opcode, instruction count, output and exception are compared. A few fixed programs covering known edge
+ * cases run first, then random programs that loop back to their start. Usage:
+ * IntCodeDifferential [-n programs] [-s seed]
+ * The exit status is 1 if any program behaved differently
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class IntCodeDifferential {
+    // Instructions run per slice, enough for blocks to get hot within the first few slices
+    private static final int SLICE = 500;
+    private static final int SLICES = 20;
+    // Words past the end of a random program that its position mode parameters may refer to
+    private static final int SPARE = 200;
+
+    private static final long[][] FIXED = {
+            // Jumps that are never taken, whose targets would fail to read if they were
+            {101, 1, 20, 20, 105, 0, -1, 1105, 1, 0},
+            {101, 1, 20, 20, 6, 20, -1, 1105, 1, 0},
+            {101, 1, 20, 20, 2105, 0, -1000, 1105, 1, 0},
+            // Relative accesses that go negative part way through a hot block, after the relative base has changed
+            {101, 1, 30, 30, 109, -1, 21101, 7, 7, 100, 1105, 1, 0},
+            {101, 1, 30, 30, 109, -1, 201, 100, 30, 31, 1105, 1, 0}
+    };
+
+    public static void main(String[] args) {
+        int programs = 20000;
+        long seed = 42;
+        for(int i = 0; i + 1 < args.length; i += 2) {
+            switch(args[i]) {
+                case "-n":
+                    programs = Integer.parseInt(args[i + 1]);
+                    break;
+                case "-s":
+                    seed = Long.parseLong(args[i + 1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        int failures = 0;
+        for(int i = 0; i < FIXED.length; i++) {
+            if(!compare("fixed " + i, FIXED[i], FIXED[i].length + SPARE)) {
+                failures++;
+            }
+        }
+        Random random = new Random(seed);
+        for(int i = 0; i < programs; i++) {
+            int length = 60 + random.nextInt(100);
+            if(!compare("random " + i, generate(random, length), length + SPARE)) {
+                failures++;
+            }
+        }
+        System.out.println((FIXED.length + programs) + " programs, " + failures + " differences");
+        if(failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Generates a random program of arithmetic, comparison, jump, relative base and I/O instructions with random
+     * parameter modes, ending in a jump back to its start
+     *
+     * @param random the source of randomness
+     * @param length the rough length of the program before its closing jump
+     * @return the program, padded with spare zero words
+     */
+    private static long[] generate(Random random, int length) {
+        int[] opcodes = {1, 2, 7, 8, 9, 5, 6, 1, 1, 2, 7, 8, 3, 4};
+        long[] program = new long[length + SPARE];
+        int i = 0;
+        while(i < length) {
+            int opcode = opcodes[random.nextInt(opcodes.length)];
+            int mode1 = random.nextInt(3);
+            int mode2 = random.nextInt(3);
+            int mode3 = random.nextInt(4) == 0 ? 2 : 0;
+            program[i] = random.nextInt(150) == 0 ? 99 : opcode + 100 * mode1 + 1000 * mode2 + 10000 * mode3;
+            int size = opcode == 1 || opcode == 2 || opcode == 7 || opcode == 8 ? 4 : opcode == 5 || opcode == 6 ? 3 : 2;
+            for(int k = 1; k < size; k++) {
+                if((opcode == 5 || opcode == 6) && k == 2 && mode2 == 1) {
+                    program[i + k] = random.nextInt(length);
+                } else {
+                    program[i + k] = random.nextInt(k == 1 && mode1 == 1 ? 50 : length + SPARE - 50) - (random.nextInt(40) == 0 ? 60 : 0);
+                }
+            }
+            i += size;
+        }
+        program[i] = 1105;
+        program[i + 1] = 1;
+        program[i + 2] = 0;
+        return program;
+    }
+
+    /**
+     * Runs a program on an interpreting and a compiling computer and compares them
+     *
+     * @param name the name of the program, for reporting
+     * @param program the program
+     * @param words the number of memory words to compare
+     * @return true if both computers behaved the same
+     */
+    private static boolean compare(String name, long[] program, int words) {
+        IntCode interpreted = new IntCode(program.clone());
+        IntCode compiled = new IntCode(program.clone());
+        compiled.setCompilation(true);
+        for(int i = 0; i < 1000; i++) {
+            interpreted.setInput(i);
+            compiled.setInput(i);
+        }
+        for(int slice = 0; slice < SLICES; slice++) {
+            String expected = run(interpreted, words);
+            String actual = run(compiled, words);
+            if(!expected.equals(actual)) {
+                System.out.println("Difference in " + name + " after slice " + slice);
+                System.out.println("  interpreted: " + expected);
+                System.out.println("  compiled:    " + actual);
+                return false;
+            }
+            if(expected.startsWith("HALTED") || expected.startsWith("threw")) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs a slice of a program and describes the resulting state
+     *
+     * @param computer the computer
+     * @param words the number of memory words to describe
+     * @return the state of the computer
+     */
+    private static String run(IntCode computer, int words) {
+        StringBuilder build = new StringBuilder();
+        try {
+            build.append(computer.run(SLICE));
+        } catch(RuntimeException e) {
+            build.append("threw ").append(e.getClass().getName()).append(": ").append(e.getMessage());
+        }
+        build.append(" count=").append(computer.getInstructionCount());
+        build.append(" base=").append(computer.getRelativeBase());
+        build.append(" opcode=");
+        try {
+            build.append(computer.getCurrentOpcode());
+        } catch(IllegalArgumentException e) {
+            // The program jumped to a negative address
+            build.append("none");
+        }
+        build.append(" output=");
+        while(computer.hasOutput()) {
+            build.append(computer.readOutput()).append(',');
+        }
+        build.append(" memory=");
+        long hash = 1;
+        for(int i = 0; i < words; i++) {
+            hash = 31 * hash + computer.getFromMemory(i);
+        }
+        return build.append(Long.toHexString(hash)).toString();
+    }
+}
@@ -1,16 +1,36 @@
 package com.foley.util;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Basic template for advent of code problems
+ * Basic template for advent of code problems. The input file is loaded once, memory mapped when it is a plain file and
+ * read in bulk otherwise, and can be used as raw bytes, text, lazily split lines or records, or through a Scanner
  *
  * @author Evan Foley
  * @version 19 Jan 2019
  */
 public abstract class AdventMaster {
+    private static final int CHUNK = 1 << 16;
+
     protected Scanner scanner;
+    private final ByteBuffer input;
 
     /**
      * Creates a new advent master
@@ -21,12 +41,278 @@ public abstract class AdventMaster {
         if(fileName == null) {
             throw new IllegalArgumentException("File name cannot be null");
         }
-        InputStream is = AdventMaster.class.getResourceAsStream(fileName);
-        scanner = new Scanner(is);
+        URL resource = AdventMaster.class.getResource(fileName);
+        // Error out if the input file does not exist
+        if(resource == null) {
+            throw new IllegalArgumentException("Input file not found: " + fileName);
+        }
+        try {
+            input = load(resource);
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        scanner = new Scanner(new BufferInputStream(input.duplicate()));
     }
 
     /**
      * Parses the input file
      */
     protected abstract void parseFile();
+
+    /**
+     * Returns the bytes of the input file. The buffer is a view shared with the other input methods and should only be
+     * read from
+     *
+     * @return the bytes of the input file
+     */
+    protected ByteBuffer getInput() {
+        return input.duplicate();
+    }
+
+    /**
+     * Returns the input file as text
+     *
+     * @return the text of the input file
+     */
+    protected String getText() {
+        return decode(0, input.limit());
+    }
+
+    /**
+     * Returns a lazy stream of the lines of the input file, without their line breaks. A trailing line break does not
+     * start an extra empty line
+     *
+     * @return the lines of the input file
+     */
+    protected Stream<String> lines() {
+        return stream(new Iterator<String>() {
+            private int position = 0;
+
+            @Override
+            public boolean hasNext() {
+                return position < input.limit();
+            }
+
+            @Override
+            public String next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int end = lineEnd(position);
+                String line = decode(position, trimReturn(position, end));
+                position = end + 1;
+                return line;
+            }
+        });
+    }
+
+    /**
+     * Returns a lazy stream of the records of the input file, which are groups of lines separated by one or more blank
+     * lines. Each record keeps the line breaks between its lines
+     *
+     * @return the records of the input file
+     */
+    protected Stream<String> records() {
+        return stream(new Iterator<String>() {
+            private int position = skipBlankLines(0);
+
+            @Override
+            public boolean hasNext() {
+                return position < input.limit();
+            }
+
+            @Override
+            public String next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int start = position;
+                int end = start;
+                // Take lines until a blank one or the end of the file
+                while(end < input.limit()) {
+                    int lineEnd = lineEnd(end);
+                    if(trimReturn(end, lineEnd) == end) {
+                        break;
+                    }
+                    end = lineEnd + 1;
+                }
+                String record = decode(start, trimBreak(start, Math.min(end, input.limit())));
+                position = skipBlankLines(end);
+                return record;
+            }
+        });
+    }
+
+    /**
+     * Loads a resource, memory mapping it if it is a file
+     *
+     * @param resource the resource
+     * @return the bytes of the resource
+     * @throws IOException if the resource cannot be read
+     */
+    private static ByteBuffer load(URL resource) throws IOException {
+        if("file".equals(resource.getProtocol())) {
+            try(FileChannel channel = FileChannel.open(Paths.get(resource.toURI()), StandardOpenOption.READ)) {
+                // Error out if the file cannot fit in one mapping
+                if(channel.size() > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Input file is too large to map: " + resource);
+                }
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch(URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+        try(InputStream in = resource.openStream()) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(CHUNK);
+            byte[] chunk = new byte[CHUNK];
+            int read;
+            while((read = in.read(chunk)) != -1) {
+                bytes.write(chunk, 0, read);
+            }
+            return ByteBuffer.wrap(bytes.toByteArray());
+        }
+    }
+
+    /**
+     * Returns the index of the next line break, or the end of the input
+     *
+     * @param from the index to start from
+     * @return the index of the next line break
+     */
+    private int lineEnd(int from) {
+        int limit = input.limit();
+        int end = from;
+        while(end < limit && input.get(end) != '\n') {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Moves the end of a line back over a carriage return
+     *
+     * @param start the start of the line
+     * @param end the end of the line, at its line feed
+     * @return the end of the line without its carriage return
+     */
+    private int trimReturn(int start, int end) {
+        return end > start && input.get(end - 1) == '\r' ? end - 1 : end;
+    }
+
+    /**
+     * Moves the end of a record back over its trailing line break
+     *
+     * @param start the start of the record
+     * @param end the end of the record, just past its line break
+     * @return the end of the record without its line break
+     */
+    private int trimBreak(int start, int end) {
+        if(end > start && input.get(end - 1) == '\n') {
+            end--;
+        }
+        return trimReturn(start, end);
+    }
+
+    /**
+     * Skips over blank lines
+     *
+     * @param from the start of a line
+     * @return the start of the first line that is not blank
+     */
+    private int skipBlankLines(int from) {
+        int position = from;
+        while(position < input.limit()) {
+            int end = lineEnd(position);
+            if(trimReturn(position, end) != position) {
+                break;
+            }
+            position = end + 1;
+        }
+        return position;
+    }
+
+    /**
+     * Decodes a range of the input as UTF-8 text
+     *
+     * @param from the first index (inclusive)
+     * @param to the last index (exclusive)
+     * @return the text
+     */
+    private String decode(int from, int to) {
+        if(input.hasArray()) {
+            return new String(input.array(), input.arrayOffset() + from, to - from, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[to - from];
+        ByteBuffer view = input.duplicate();
+        view.position(from);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Wraps an iterator in an ordered, sequential stream
+     *
+     * @param iterator the iterator
+     * @return the stream
+     */
+    private static Stream<String> stream(Iterator<String> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Reads a byte buffer as a stream, so the Scanner shares the loaded input
+     */
+    private static final class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        /**
+         * Creates a new stream over the remaining bytes of a buffer
+         *
+         * @param buffer the buffer, which is consumed
+         */
+        BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        /**
+         * Reads one byte
+         *
+         * @return the byte, or -1 at the end of the buffer
+         */
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        /**
+         * Reads up to a number of bytes into an array
+         *
+         * @param b the array
+         * @param off the index to read into
+         * @param len the most bytes to read
+         * @return the number of bytes read, or -1 at the end of the buffer
+         */
+        public int read(byte[] b, int off, int len) {
+            if(len == 0) {
+                return 0;
+            }
+            if(!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        /**
+         * Returns the number of bytes left
+         *
+         * @return the number of bytes left
+         */
+        public int available() {
+            return buffer.remaining();
+        }
+    }
 }
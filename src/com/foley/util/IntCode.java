@@ -1,49 +1,147 @@
 package com.foley.util;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import com.foley.util.intcode.BlockCompiler;
+import com.foley.util.intcode.Channel;
+import com.foley.util.intcode.CompiledBlock;
+import com.foley.util.intcode.Instruction;
+import com.foley.util.intcode.PagedMemory;
+import com.foley.util.intcode.Profile;
+import com.foley.util.intcode.QueueChannel;
+import com.foley.util.numbers.Formatting;
+import com.foley.util.numbers.NumberReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 
 /**
- * Instructions for an int code computer
+ * Instructions for an int code computer. Words are 64 bit, and memory grows on demand so any non negative address
+ * can be read or written. Input is read from and output written to channels, and a running program suspends when it
+ * needs input that has not arrived yet
  *
  * @author Evan Foley
  * @version 13 Dec 2019
  */
 public class IntCode {
-    // Program variables
-    private int instrPtr;
-    private int currInstr;
+    /**
+     * The reason a run of the program returned
+     */
+    public enum Status {
+        /**
+         * The program reached the halting opcode
+         */
+        HALTED,
+        /**
+         * The program is waiting on a read from an empty input channel
+         */
+        NEEDS_INPUT,
+        /**
+         * The program wrote a value to its output channel
+         */
+        OUTPUT_READY,
+        /**
+         * The program is waiting on a write to a full output channel
+         */
+        OUTPUT_BLOCKED,
+        /**
+         * The program used up its instruction budget
+         */
+        YIELDED
+    }
 
-    // Data handlers
-    private int opcode;
-    private int mode1;
-    private int mode2;
-    private int param1;
-    private int param2;
-    private int store;
+    /**
+     * The saved state of a computer. Its memory shares pages with the computer it was taken from until either writes
+     * to them
+     */
+    public static final class Snapshot {
+        private final PagedMemory memory;
+        private final long instrPtr;
+        private final long relativeBase;
+        private final long instructions;
+        private final long memoryOut;
+
+        /**
+         * Creates a new snapshot
+         *
+         * @param memory The copied memory, which is never written
+         * @param instrPtr The instruction pointer
+         * @param relativeBase The relative base
+         * @param instructions The number of instructions run
+         * @param memoryOut The last value written
+         */
+        private Snapshot(PagedMemory memory, long instrPtr, long relativeBase, long instructions, long memoryOut) {
+            this.memory = memory;
+            this.instrPtr = instrPtr;
+            this.relativeBase = relativeBase;
+            this.instructions = instructions;
+            this.memoryOut = memoryOut;
+        }
+    }
+
+    // Parameter modes
+    private static final int POSITION = 0;
+    private static final int IMMEDIATE = 1;
+    private static final int RELATIVE = 2;
+
+    // Program variables
+    private long instrPtr;
+    private long relativeBase;
+    private long instructions;
 
     // Program data
-    private int memoryOut;
-    private int memoryIn;
-    private int[] memory;
+    private long memoryOut;
+    private Channel input;
+    private Channel output;
+    private PagedMemory memory;
+
+    // Compiled execution
+    private BlockCompiler compiler;
+    private long[] registers;
+
+    // Profiling
+    private Profile profile;
+    private long waitStart;
+    private Status waitStatus;
 
     /**
      * Creates a new int code computer
      *
      * @param str The input string of data
+     * @param delimeter The delimeter between values
      */
     public IntCode(String str, String delimeter) {
-        this(str, delimeter, str.length());
+        this(Formatting.convertToLongArray(str, delimeter));
     }
 
     /**
      * Creates a new int code computer
      *
      * @param str The input string of data
-     * @param length The length of the program memory
+     * @param delimeter The delimeter between values
+     * @param length The minimum length of the program memory. Memory grows on demand, so this is only validated
      */
     public IntCode(String str, String delimeter, int length) {
-        this(str.split(delimeter), length);
+        this(Formatting.convertToLongArray(str, delimeter), length);
+    }
+
+    /**
+     * Creates a new int code computer from a comma separated program file, which is memory mapped and parsed in place
+     *
+     * @param path The program file
+     * @throws IOException If the file cannot be read
+     */
+    public IntCode(Path path) throws IOException {
+        this(NumberReader.readLongs(path));
+    }
+
+    /**
+     * Creates a new int code computer from a comma separated program stream, which is read to its end but not closed
+     *
+     * @param in The program stream
+     * @throws IOException If the stream cannot be read
+     */
+    public IntCode(InputStream in) throws IOException {
+        this(NumberReader.readLongs(in));
     }
 
     /**
@@ -59,10 +157,10 @@ public class IntCode {
      * Creates a new int code computer
      *
      * @param arr The input array
-     * @param length The length of the program memory
+     * @param length The minimum length of the program memory. Memory grows on demand, so this is only validated
      */
     public IntCode(String[] arr, int length) {
-        this(Formatting.convertToIntArray(arr), length);
+        this(Formatting.convertToLongArray(arr), length);
     }
 
     /**
@@ -78,19 +176,154 @@ public class IntCode {
      * Creates a new int code computer
      *
      * @param arr The input array
-     * @param length The length of the program memory
+     * @param length The minimum length of the program memory. Memory grows on demand, so this is only validated
      */
     public IntCode(int[] arr, int length) {
+        this(toLongArray(arr), length);
+    }
+
+    /**
+     * Creates a new int code computer
+     *
+     * @param arr The input array
+     */
+    public IntCode(long[] arr) {
+        this(arr, arr.length);
+    }
+
+    /**
+     * Creates a new int code computer
+     *
+     * @param arr The input array
+     * @param length The minimum length of the program memory. Memory grows on demand, so this is only validated
+     */
+    public IntCode(long[] arr, int length) {
         // Ensure proper length was given
         if(length < arr.length || length < 1) {
             throw new IllegalArgumentException("Memory length cannot be less than the input array length, or less than 1");
         }
         // Load program into memory
-        memory = new int[length];
+        memory = new PagedMemory(arr);
+        instrPtr = 0;
+        relativeBase = 0;
+        input = new QueueChannel();
+        output = new QueueChannel();
+    }
+
+    /**
+     * Creates a new int code computer that continues from a saved state
+     *
+     * @param snapshot The saved state
+     * @param input The input channel
+     */
+    private IntCode(Snapshot snapshot, Channel input) {
+        this.input = input;
+        this.output = new QueueChannel();
+        restore(snapshot);
+    }
+
+    /**
+     * Saves the memory, instruction pointer and relative base of the computer. Memory pages are shared with the
+     * snapshot until the computer writes to them, so taking a snapshot costs one table entry per page. Channels are not
+     * part of the snapshot
+     *
+     * @return The saved state
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(memory.copy(), instrPtr, relativeBase, instructions, memoryOut);
+    }
+
+    /**
+     * Returns the computer to a saved state. The snapshot can be restored any number of times, into this computer or
+     * others running the same program. Queued input and output are left as they are
+     *
+     * @param snapshot The saved state
+     */
+    public void restore(Snapshot snapshot) {
+        if(snapshot == null) {
+            throw new IllegalArgumentException("Cannot restore from a null snapshot");
+        }
+        memory = snapshot.memory.copy();
+        if(compiler != null) {
+            compiler = new BlockCompiler();
+        }
+        instrPtr = snapshot.instrPtr;
+        relativeBase = snapshot.relativeBase;
+        instructions = snapshot.instructions;
+        memoryOut = snapshot.memoryOut;
+    }
+
+    /**
+     * Creates a new computer in the same state as this one that runs independently of it. Memory is shared copy on
+     * write. The fork gets a copy of the queued input if the input channel is a queue channel, otherwise an empty
+     * input channel, and always an empty output channel. Compilation is carried over, but compiled code is not
+     *
+     * @return The new computer
+     */
+    public IntCode fork() {
+        Channel in = input instanceof QueueChannel ? ((QueueChannel) input).copy() : new QueueChannel();
+        IntCode copy = new IntCode(snapshot(), in);
+        copy.setCompilation(compiler != null);
+        return copy;
+    }
+
+    /**
+     * Attaches a profile that records every instruction run from now on, or detaches the current one. While a profile
+     * is attached the program is always interpreted, even if compilation is on
+     *
+     * @param profile The profile to record in, or null to stop profiling
+     */
+    public void setProfile(Profile profile) {
+        this.profile = profile;
+        waitStatus = null;
+    }
+
+    /**
+     * Gets the attached profile
+     *
+     * @return The attached profile, or null if the program is not being profiled
+     */
+    public Profile getProfile() {
+        return profile;
+    }
+
+    /**
+     * Turns compilation of hot code on or off. While on, straight line runs of instructions that are reached often are
+     * compiled to JVM bytecode and run in place of the interpreter. Results are the same either way, and code that is
+     * modified after being compiled falls back to the interpreter
+     *
+     * @param enabled True to compile hot code
+     */
+    public void setCompilation(boolean enabled) {
+        if(enabled && compiler == null) {
+            compiler = new BlockCompiler();
+            registers = new long[2];
+        } else if(!enabled) {
+            compiler = null;
+        }
+    }
+
+    /**
+     * Returns true if hot code is compiled
+     *
+     * @return True if hot code is compiled
+     */
+    public boolean isCompilationEnabled() {
+        return compiler != null;
+    }
+
+    /**
+     * Widens an int program to long words
+     *
+     * @param arr The input array
+     * @return The program as long words
+     */
+    private static long[] toLongArray(int[] arr) {
+        long[] words = new long[arr.length];
         for(int i = 0; i < arr.length; i++) {
-            memory[i] = arr[i];
+            words[i] = arr[i];
         }
-        instrPtr = 0;
+        return words;
     }
 
     /**
@@ -99,110 +332,504 @@ public class IntCode {
      * @return The current opcode
      */
     public int getCurrentOpcode() {
-        return memory[instrPtr] % 100;
+        return (int) (memory.get(instrPtr) % 100);
     }
 
     /**
-     * Runs the program until it halts
+     * Runs the program until it halts or needs input that has not been given yet. Output is queued in the output
+     * channel. A suspended program picks up where it left off on the next run
+     *
+     * @return HALTED or NEEDS_INPUT
+     */
+    public Status run() {
+        return execute(Long.MAX_VALUE, false, false);
+    }
+
+    /**
+     * Runs the program until it halts, suspends, or has run the given number of instructions
+     *
+     * @param budget The maximum number of instructions to run
+     * @return The reason the program stopped, YIELDED if the budget was used up
      */
-    public void run() {
-        // Run until the halting opcode is reached
-        while(opcode != 99) {
-            cycle();
+    public Status run(long budget) {
+        if(budget < 1) {
+            throw new IllegalArgumentException("Instruction budget cannot be less than 1");
         }
+        return execute(budget, false, false);
     }
 
     /**
-     * Runs one iteration of the instruction set
+     * Runs the program until it writes a value, halts, or needs input that has not been given yet
+     *
+     * @return The reason the program stopped
+     */
+    public Status runUntilOutput() {
+        return execute(Long.MAX_VALUE, true, false);
+    }
+
+    /**
+     * Runs the program until it halts, waiting on the input channel whenever it is empty. This is meant for computers
+     * running on their own thread with a thread safe input channel
+     *
+     * @return HALTED, or NEEDS_INPUT if the thread was interrupted while waiting
+     */
+    public Status runBlocking() {
+        return execute(Long.MAX_VALUE, false, true);
+    }
+
+    /**
+     * Runs one iteration of the instruction set. A read from an empty input channel leaves the program where it is
      */
     public void cycle() {
-        // Prepare parameters
-        currInstr = memory[instrPtr];
-        opcode = currInstr % 100;
-        mode1 = currInstr / 100 % 10;
-        mode2 = currInstr / 1000 % 10;
-        param1 = memory[instrPtr + 1];
-
-        // Perform the specified opcode action
-        switch (opcode) {
-            case 1: // Add
-                param2 = memory[instrPtr + 2];
-                store = memory[instrPtr + 3];
-                memory[store] = (mode1 == 1 ? param1 : memory[param1]) + (mode2 == 1 ? param2 : memory[param2]);
-                instrPtr += 4;
-                break;
-            case 2: // Multiply
-                param2 = memory[instrPtr + 2];
-                store = memory[instrPtr + 3];
-                memory[store] = (mode1 == 1 ? param1 : memory[param1]) * (mode2 == 1 ? param2 : memory[param2]);
-                instrPtr += 4;
-                break;
-            case 3: // Read
-                memory[param1] = memoryIn;
-                instrPtr += 2;
-                break;
-            case 4: // Write
-                memoryOut = (mode1 == 1 ? param1 : memory[param1]);
-                instrPtr += 2;
-                break;
-            case 5: // Jump-if-true
-                param2 = memory[instrPtr + 2];
-                instrPtr += 3;
-                if ((mode1 == 1 ? param1 : memory[param1]) != 0) {
-                    instrPtr = (mode2 == 1 ? param2 : memory[param2]);
+        execute(1, false, false);
+    }
+
+    /**
+     * Runs instructions until the program halts, suspends, or the budget is used up. Instructions are decoded once and
+     * cached in memory, and the instruction pointer and relative base are kept in locals while the loop runs
+     *
+     * @param budget The maximum number of instructions to run
+     * @param stopOnOutput True to return after each write
+     * @param blocking True to wait on an empty input channel instead of suspending
+     * @return The reason the program stopped, YIELDED if the budget was used up
+     */
+    private Status execute(long budget, boolean stopOnOutput, boolean blocking) {
+        if(profile != null) {
+            return executeProfiled(budget, stopOnOutput, blocking);
+        }
+        PagedMemory mem = memory;
+        long ptr = instrPtr;
+        long base = relativeBase;
+        long executed = 0;
+        BlockCompiler jit = compiler;
+        try {
+            for(; executed < budget; executed++) {
+                if(jit != null) {
+                    // Run a compiled block in place of its instructions when the whole block fits in the budget
+                    CompiledBlock block = jit.lookup(mem, ptr);
+                    if(block != null && block.getLength() <= budget - executed) {
+                        registers[0] = base;
+                        try {
+                            ptr = block.execute(mem, registers);
+                            base = registers[0];
+                            executed += block.getLength() - 1;
+                            continue;
+                        } catch(RuntimeException e) {
+                            // Resume at the instruction that failed so the interpreter fails on it with the same state
+                            int failed = (int) registers[1];
+                            ptr = block.getAddress(failed);
+                            base = registers[0];
+                            executed += failed;
+                        }
+                    }
+                }
+                Instruction in = mem.getDecoded(ptr);
+                if(in == null) {
+                    in = Instruction.decode(mem, ptr);
+                    mem.setDecoded(ptr, in);
+                }
+
+                // Perform the specified opcode action
+                switch (in.getOpcode()) {
+                    case 1: // Add
+                        mem.set(address(in.getParam3(), in.getMode3(), base),
+                                read(mem, in.getParam1(), in.getMode1(), base) + read(mem, in.getParam2(), in.getMode2(), base));
+                        ptr += 4;
+                        break;
+                    case 2: // Multiply
+                        mem.set(address(in.getParam3(), in.getMode3(), base),
+                                read(mem, in.getParam1(), in.getMode1(), base) * read(mem, in.getParam2(), in.getMode2(), base));
+                        ptr += 4;
+                        break;
+                    case 3: // Read
+                        long value;
+                        if(!input.isEmpty()) {
+                            value = input.read();
+                        } else if(blocking) {
+                            try {
+                                value = input.take();
+                            } catch(InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                return Status.NEEDS_INPUT;
+                            }
+                        } else {
+                            // Suspend without advancing so the read is retried once input arrives
+                            return Status.NEEDS_INPUT;
+                        }
+                        mem.set(address(in.getParam1(), in.getMode1(), base), value);
+                        ptr += 2;
+                        break;
+                    case 4: // Write
+                        long out = read(mem, in.getParam1(), in.getMode1(), base);
+                        if(!output.offer(out)) {
+                            // Suspend without advancing so the write is retried once there is room
+                            return Status.OUTPUT_BLOCKED;
+                        }
+                        memoryOut = out;
+                        ptr += 2;
+                        if(stopOnOutput) {
+                            executed++;
+                            return Status.OUTPUT_READY;
+                        }
+                        break;
+                    case 5: // Jump-if-true
+                        ptr = read(mem, in.getParam1(), in.getMode1(), base) != 0
+                                ? read(mem, in.getParam2(), in.getMode2(), base) : ptr + 3;
+                        break;
+                    case 6: // Jump-if-false
+                        ptr = read(mem, in.getParam1(), in.getMode1(), base) == 0
+                                ? read(mem, in.getParam2(), in.getMode2(), base) : ptr + 3;
+                        break;
+                    case 7: // Less than
+                        mem.set(address(in.getParam3(), in.getMode3(), base),
+                                read(mem, in.getParam1(), in.getMode1(), base) < read(mem, in.getParam2(), in.getMode2(), base) ? 1 : 0);
+                        ptr += 4;
+                        break;
+                    case 8: // Equals
+                        mem.set(address(in.getParam3(), in.getMode3(), base),
+                                read(mem, in.getParam1(), in.getMode1(), base) == read(mem, in.getParam2(), in.getMode2(), base) ? 1 : 0);
+                        ptr += 4;
+                        break;
+                    case 9: // Adjust relative base
+                        base += read(mem, in.getParam1(), in.getMode1(), base);
+                        ptr += 2;
+                        break;
+                    case 99: // Halt
+                        return Status.HALTED;
+                    default:
+                        throw new IllegalStateException("Unknown opcode " + in.getOpcode() + " at position " + ptr);
                 }
-                break;
-            case 6: // Jump-if-false
-                param2 = memory[instrPtr + 2];
-                instrPtr += 3;
-                if ((mode1 == 1 ? param1 : memory[param1]) == 0) {
-                    instrPtr = (mode2 == 1 ? param2 : memory[param2]);
+            }
+        } finally {
+            instrPtr = ptr;
+            relativeBase = base;
+            instructions += executed;
+        }
+        return Status.YIELDED;
+    }
+
+    /**
+     * Runs instructions like execute, recording each instruction, memory access and wait in the attached profile. This
+     * is kept apart from the plain dispatch loop so an unprofiled computer pays nothing for it, and it always
+     * interprets so every instruction is seen
+     *
+     * @param budget The maximum number of instructions to run
+     * @param stopOnOutput True to return after each write
+     * @param blocking True to wait on an empty input channel instead of suspending
+     * @return The reason the program stopped, YIELDED if the budget was used up
+     */
+    private Status executeProfiled(long budget, boolean stopOnOutput, boolean blocking) {
+        Profile prof = profile;
+        PagedMemory mem = memory;
+        long ptr = instrPtr;
+        long base = relativeBase;
+        long executed = 0;
+        // Charge the time since the last suspension to the channel that caused it
+        if(waitStatus != null) {
+            if(waitStatus == Status.NEEDS_INPUT) {
+                prof.recordInputWait(System.nanoTime() - waitStart);
+            } else {
+                prof.recordOutputWait(System.nanoTime() - waitStart);
+            }
+            waitStatus = null;
+        }
+        try {
+            for(; executed < budget; executed++) {
+                Instruction in = mem.getDecoded(ptr);
+                if(in == null) {
+                    in = Instruction.decode(mem, ptr);
+                    mem.setDecoded(ptr, in);
                 }
-                break;
-            case 7: // Less than
-                param2 = memory[instrPtr + 2];
-                store = memory[instrPtr + 3];
-                memory[store] = (mode1 == 1 ? param1 : memory[param1]) < (mode2 == 1 ? param2 : memory[param2]) ? 1 : 0;
-                instrPtr += 4;
-                break;
-            case 8: // Equals
-                param2 = memory[instrPtr + 2];
-                store = memory[instrPtr + 3];
-                memory[store] = (mode1 == 1 ? param1 : memory[param1]) == (mode2 == 1 ? param2 : memory[param2]) ? 1 : 0;
-                instrPtr += 4;
+                long at = ptr;
+
+                // Perform the specified opcode action
+                switch (in.getOpcode()) {
+                    case 1: // Add
+                        write(prof, mem, address(in.getParam3(), in.getMode3(), base),
+                                read(prof, mem, in.getParam1(), in.getMode1(), base) + read(prof, mem, in.getParam2(), in.getMode2(), base));
+                        ptr += 4;
+                        break;
+                    case 2: // Multiply
+                        write(prof, mem, address(in.getParam3(), in.getMode3(), base),
+                                read(prof, mem, in.getParam1(), in.getMode1(), base) * read(prof, mem, in.getParam2(), in.getMode2(), base));
+                        ptr += 4;
+                        break;
+                    case 3: // Read
+                        long value;
+                        if(!input.isEmpty()) {
+                            value = input.read();
+                        } else if(blocking) {
+                            long start = System.nanoTime();
+                            try {
+                                value = input.take();
+                            } catch(InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                return Status.NEEDS_INPUT;
+                            } finally {
+                                prof.recordInputWait(System.nanoTime() - start);
+                            }
+                        } else {
+                            return suspend(Status.NEEDS_INPUT);
+                        }
+                        write(prof, mem, address(in.getParam1(), in.getMode1(), base), value);
+                        ptr += 2;
+                        break;
+                    case 4: // Write
+                        long out = read(prof, mem, in.getParam1(), in.getMode1(), base);
+                        if(!output.offer(out)) {
+                            return suspend(Status.OUTPUT_BLOCKED);
+                        }
+                        memoryOut = out;
+                        ptr += 2;
+                        if(stopOnOutput) {
+                            prof.recordInstruction(at, in.getOpcode());
+                            executed++;
+                            return Status.OUTPUT_READY;
+                        }
+                        break;
+                    case 5: // Jump-if-true
+                        ptr = read(prof, mem, in.getParam1(), in.getMode1(), base) != 0
+                                ? read(prof, mem, in.getParam2(), in.getMode2(), base) : ptr + 3;
+                        break;
+                    case 6: // Jump-if-false
+                        ptr = read(prof, mem, in.getParam1(), in.getMode1(), base) == 0
+                                ? read(prof, mem, in.getParam2(), in.getMode2(), base) : ptr + 3;
+                        break;
+                    case 7: // Less than
+                        write(prof, mem, address(in.getParam3(), in.getMode3(), base),
+                                read(prof, mem, in.getParam1(), in.getMode1(), base) < read(prof, mem, in.getParam2(), in.getMode2(), base) ? 1 : 0);
+                        ptr += 4;
+                        break;
+                    case 8: // Equals
+                        write(prof, mem, address(in.getParam3(), in.getMode3(), base),
+                                read(prof, mem, in.getParam1(), in.getMode1(), base) == read(prof, mem, in.getParam2(), in.getMode2(), base) ? 1 : 0);
+                        ptr += 4;
+                        break;
+                    case 9: // Adjust relative base
+                        base += read(prof, mem, in.getParam1(), in.getMode1(), base);
+                        ptr += 2;
+                        break;
+                    case 99: // Halt
+                        prof.recordInstruction(at, in.getOpcode());
+                        return Status.HALTED;
+                    default:
+                        throw new IllegalStateException("Unknown opcode " + in.getOpcode() + " at position " + ptr);
+                }
+                // Only instructions that completed are counted, so a suspended read or write is counted once
+                prof.recordInstruction(at, in.getOpcode());
+            }
+        } finally {
+            instrPtr = ptr;
+            relativeBase = base;
+            instructions += executed;
         }
+        return Status.YIELDED;
+    }
+
+    /**
+     * Notes the start of a wait on a channel so its length can be profiled when the program resumes
+     *
+     * @param status NEEDS_INPUT or OUTPUT_BLOCKED
+     * @return The status
+     */
+    private Status suspend(Status status) {
+        waitStatus = status;
+        waitStart = System.nanoTime();
+        return status;
+    }
+
+    /**
+     * Reads the value of a parameter, recording the memory access
+     *
+     * @param prof The profile to record in
+     * @param mem The program memory
+     * @param param The raw parameter
+     * @param mode The parameter mode
+     * @param base The relative base
+     * @return The value of the parameter
+     */
+    private static long read(Profile prof, PagedMemory mem, long param, int mode, long base) {
+        if(mode == IMMEDIATE) {
+            return param;
+        }
+        long address = address(param, mode, base);
+        prof.recordRead(address);
+        return mem.get(address);
+    }
+
+    /**
+     * Writes a value to memory, recording the memory access
+     *
+     * @param prof The profile to record in
+     * @param mem The program memory
+     * @param address The address to write
+     * @param value The value to write
+     */
+    private static void write(Profile prof, PagedMemory mem, long address, long value) {
+        prof.recordWrite(address);
+        mem.set(address, value);
+    }
+
+    /**
+     * Reads the value of a parameter
+     *
+     * @param mem The program memory
+     * @param param The raw parameter
+     * @param mode The parameter mode
+     * @param base The relative base
+     * @return The value of the parameter
+     */
+    private static long read(PagedMemory mem, long param, int mode, long base) {
+        return mode == IMMEDIATE ? param : mem.get(address(param, mode, base));
+    }
+
+    /**
+     * Resolves the address a parameter refers to
+     *
+     * @param param The raw parameter
+     * @param mode The parameter mode
+     * @param base The relative base
+     * @return The address the parameter refers to
+     */
+    private static long address(long param, int mode, long base) {
+        // Kept small so it is always inlined into the dispatch loop
+        if(mode == POSITION) {
+            return param;
+        }
+        if(mode == RELATIVE) {
+            return base + param;
+        }
+        return badMode(mode);
+    }
+
+    /**
+     * Errors out on a parameter mode that does not refer to an address
+     *
+     * @param mode The parameter mode
+     * @return Never returns
+     */
+    private static long badMode(int mode) {
+        throw new IllegalStateException("Parameter mode " + mode + " does not refer to an address");
     }
 
     /**
-     * Gives input to the program
+     * Gives input to the program by adding it to the end of the input channel
      *
      * @param in The input
      */
-    public void setInput(int in) {
-        memoryIn = in;
+    public void setInput(long in) {
+        input.write(in);
     }
 
     /**
-     * Gets the value in the output memory for the int code
+     * Gets the last value the program wrote. Written values also stay queued in the output channel
      *
-     * @return The value in the output memory
+     * @return The last value the program wrote
      */
-    public int getOutput() {
+    public long getOutput() {
         return memoryOut;
     }
 
+    /**
+     * Returns true if the output channel holds values that have not been read
+     *
+     * @return True if output is waiting to be read
+     */
+    public boolean hasOutput() {
+        return !output.isEmpty();
+    }
+
+    /**
+     * Removes and returns the oldest unread value from the output channel
+     *
+     * @return The oldest unread output
+     */
+    public long readOutput() {
+        return output.read();
+    }
+
+    /**
+     * Gets the channel the program reads input from
+     *
+     * @return The input channel
+     */
+    public Channel getInputChannel() {
+        return input;
+    }
+
+    /**
+     * Sets the channel the program reads input from
+     *
+     * @param input The input channel
+     */
+    public void setInputChannel(Channel input) {
+        if(input == null) {
+            throw new IllegalArgumentException("Input channel cannot be null");
+        }
+        this.input = input;
+    }
+
+    /**
+     * Gets the channel the program writes output to
+     *
+     * @return The output channel
+     */
+    public Channel getOutputChannel() {
+        return output;
+    }
+
+    /**
+     * Sets the channel the program writes output to. Passing the input channel of another computer wires the two
+     * together
+     *
+     * @param output The output channel
+     */
+    public void setOutputChannel(Channel output) {
+        if(output == null) {
+            throw new IllegalArgumentException("Output channel cannot be null");
+        }
+        this.output = output;
+    }
+
+    /**
+     * Gets the number of instructions the program has run
+     *
+     * @return The number of instructions run
+     */
+    public long getInstructionCount() {
+        return instructions;
+    }
+
+    /**
+     * Returns true if the program has reached the halting opcode
+     *
+     * @return True if the program has halted
+     */
+    public boolean isHalted() {
+        return getCurrentOpcode() == 99;
+    }
+
+    /**
+     * Gets the current relative base
+     *
+     * @return The current relative base
+     */
+    public long getRelativeBase() {
+        return relativeBase;
+    }
+
     /**
      * Gets a value from the program memory
      *
      * @param pos The position to get
-     * @return The value at the position
+     * @return The value at the position, 0 if it has never been written
      */
-    public int getFromMemory(int pos) {
-        if(pos >= 0 && pos < memory.length) {
-            return memory[pos];
+    public long getFromMemory(long pos) {
+        if(pos >= 0) {
+            return memory.get(pos);
         }
         else {
-            throw new IllegalArgumentException("Requested position must fall into acceptable array bounds");
+            throw new IllegalArgumentException("Requested position cannot be negative");
         }
     }
 
@@ -212,12 +839,12 @@ public class IntCode {
      * @param pos The position to set
      * @param val The value to set
      */
-    public void setMemoryValue(int pos, int val) {
-        if(pos >= 0 && pos < memory.length) {
-            memory[pos] = val;
+    public void setMemoryValue(long pos, long val) {
+        if(pos >= 0) {
+            memory.set(pos, val);
         }
         else {
-            throw new IllegalArgumentException("Requested position must fall into acceptable array bounds");
+            throw new IllegalArgumentException("Requested position cannot be negative");
         }
     }
 }
@@ -0,0 +1,262 @@
+package com.foley.util.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Computes the shortest path cost between every pair of vertices in parallel. Dense graphs use a cache blocked
+ * Floyd-Warshall algorithm, sparse graphs run dijkstra's algorithm from every vertex
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public final class AllPairsShortestPaths {
+    /**
+     * The way distances are computed
+     */
+    public enum Strategy {
+        /**
+         * Picks a strategy from the density of the graph, always Floyd-Warshall if any edge cost is negative
+         */
+        AUTO,
+        /**
+         * Cache blocked Floyd-Warshall, suited to dense graphs. Allows negative edge costs without negative cycles
+         */
+        FLOYD_WARSHALL,
+        /**
+         * Dijkstra's algorithm from every vertex in parallel, suited to sparse graphs. Edge costs cannot be negative
+         */
+        REPEATED_DIJKSTRA
+    }
+
+    // Side length of the square blocks processed by Floyd-Warshall
+    private static final int BLOCK = 64;
+    // Sources handled by each dijkstra task
+    private static final int SOURCES_PER_TASK = 16;
+    // Stand-in for an unreachable cost that cannot overflow when two are added
+    private static final int INF = Integer.MAX_VALUE / 2;
+
+    private AllPairsShortestPaths() {
+    }
+
+    /**
+     * Computes the shortest path cost between every pair of vertices on the common fork join pool
+     *
+     * @param g the graph
+     * @return the shortest path costs
+     */
+    public static <E> DistanceMatrix<E> compute(Graph<E> g) {
+        return compute(g.freeze(), Strategy.AUTO, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the shortest path cost between every pair of vertices on the common fork join pool
+     *
+     * @param g the compact graph
+     * @param strategy the way distances are computed
+     * @return the shortest path costs
+     */
+    public static <E> DistanceMatrix<E> compute(CompactGraph<E> g, Strategy strategy) {
+        return compute(g, strategy, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the shortest path cost between every pair of vertices
+     *
+     * @param g the compact graph
+     * @param strategy the way distances are computed
+     * @param pool the pool to run on
+     * @return the shortest path costs
+     * @throws IllegalArgumentException if repeated dijkstra is asked for on a graph with a negative edge cost
+     */
+    public static <E> DistanceMatrix<E> compute(CompactGraph<E> g, Strategy strategy, ForkJoinPool pool) {
+        boolean negative = hasNegativeCost(g);
+        // Error out if dijkstra is asked to handle costs it cannot
+        if(negative && strategy == Strategy.REPEATED_DIJKSTRA) {
+            throw new IllegalArgumentException("Repeated dijkstra cannot handle negative edge costs");
+        }
+        if(strategy == Strategy.AUTO) {
+            strategy = negative ? Strategy.FLOYD_WARSHALL : chooseStrategy(g);
+        }
+        int[] dist = strategy == Strategy.FLOYD_WARSHALL ? floydWarshall(g, pool) : repeatedDijkstra(g, pool);
+        return new DistanceMatrix<>(g, dist);
+    }
+
+    /**
+     * Picks a strategy from the density of the graph. Floyd-Warshall costs about n^3 cheap steps while repeated
+     * dijkstra costs about n * e * log(n) heap steps, each several times more expensive
+     *
+     * @param g the compact graph
+     * @return the strategy expected to finish first
+     */
+    static Strategy chooseStrategy(CompactGraph<?> g) {
+        long n = g.size();
+        long log = 64 - Long.numberOfLeadingZeros(Math.max(n, 1));
+        return g.edgeCount() * 8L * log >= n * n ? Strategy.FLOYD_WARSHALL : Strategy.REPEATED_DIJKSTRA;
+    }
+
+    /**
+     * Returns true if any edge of the graph has a negative cost
+     *
+     * @param g the compact graph
+     * @return true if an edge cost is negative
+     */
+    private static boolean hasNegativeCost(CompactGraph<?> g) {
+        for(int i = 0, m = g.edgeCount(); i < m; i++) {
+            if(g.getCost(i) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs dijkstra's algorithm from every vertex, splitting the sources across the pool
+     *
+     * @param g the compact graph
+     * @param pool the pool to run on
+     * @return the costs, row by row
+     */
+    private static <E> int[] repeatedDijkstra(CompactGraph<E> g, ForkJoinPool pool) {
+        int n = g.size();
+        int[] dist = new int[checkedSize(n)];
+        pool.invoke(new RangeTask(0, n, SOURCES_PER_TASK, (start, end) -> {
+            // One pathfinder per task, its search state is reused for every source
+            DijkstraPathfinder<E> finder = new DijkstraPathfinder<>(g);
+            for(int s = start; s < end; s++) {
+                finder.searchGraphFrom(g.getVertex(s));
+                int row = s * n;
+                for(int v = 0; v < n; v++) {
+                    dist[row + v] = finder.state.getScore(v);
+                }
+            }
+        }));
+        return dist;
+    }
+
+    /**
+     * Runs the cache blocked Floyd-Warshall algorithm. For each diagonal block the diagonal block is updated first,
+     * then the blocks sharing its row or column in parallel, then every other block in parallel
+     *
+     * @param g the compact graph
+     * @param pool the pool to run on
+     * @return the costs, row by row
+     */
+    private static int[] floydWarshall(CompactGraph<?> g, ForkJoinPool pool) {
+        int n = g.size();
+        int[] d = new int[checkedSize(n)];
+        // Start from the direct edges
+        Arrays.fill(d, INF);
+        for(int v = 0; v < n; v++) {
+            for(int i = g.getEdgeStart(v); i < g.getEdgeEnd(v); i++) {
+                int t = g.getTarget(i);
+                d[v * n + t] = Math.min(d[v * n + t], g.getCost(i));
+            }
+        }
+        for(int v = 0; v < n; v++) {
+            d[v * n + v] = Math.min(d[v * n + v], 0);
+        }
+
+        int blocks = (n + BLOCK - 1) / BLOCK;
+        for(int kb = 0; kb < blocks; kb++) {
+            final int k = kb;
+            // Diagonal block depends only on itself
+            updateBlock(d, n, k, k, k);
+            // Blocks in the same row or column depend on the diagonal block
+            pool.invoke(new RangeTask(0, blocks, 1, (start, end) -> {
+                for(int b = start; b < end; b++) {
+                    if(b != k) {
+                        updateBlock(d, n, k, b, k);
+                        updateBlock(d, n, b, k, k);
+                    }
+                }
+            }));
+            // Every other block depends on one block of that row and one of that column
+            pool.invoke(new RangeTask(0, blocks, 1, (start, end) -> {
+                for(int ib = start; ib < end; ib++) {
+                    if(ib == k) {
+                        continue;
+                    }
+                    for(int jb = 0; jb < blocks; jb++) {
+                        if(jb != k) {
+                            updateBlock(d, n, ib, jb, k);
+                        }
+                    }
+                }
+            }));
+        }
+
+        // Report unreachable pairs with the public marker
+        for(int i = 0; i < d.length; i++) {
+            if(d[i] >= INF) {
+                d[i] = DistanceMatrix.UNREACHABLE;
+            }
+        }
+        return d;
+    }
+
+    /**
+     * Relaxes one block of the matrix through the intermediate vertices of another block
+     *
+     * @param d the costs, row by row
+     * @param n the number of vertices
+     * @param ib the block row being updated
+     * @param jb the block column being updated
+     * @param kb the block of intermediate vertices
+     */
+    private static void updateBlock(int[] d, int n, int ib, int jb, int kb) {
+        int iEnd = Math.min(n, (ib + 1) * BLOCK);
+        int jStart = jb * BLOCK;
+        int jEnd = Math.min(n, jStart + BLOCK);
+        int kEnd = Math.min(n, (kb + 1) * BLOCK);
+        for(int k = kb * BLOCK; k < kEnd; k++) {
+            int kRow = k * n;
+            // A negative cost plus the unreachable marker would look reachable, so columns k cannot reach are skipped,
+            // checking the row once here so the inner loop only tests each column when one of them is unreachable
+            boolean reachesAll = true;
+            for(int j = jStart; j < jEnd; j++) {
+                if(d[kRow + j] >= INF) {
+                    reachesAll = false;
+                    break;
+                }
+            }
+            for(int i = ib * BLOCK; i < iEnd; i++) {
+                int iRow = i * n;
+                int dik = d[iRow + k];
+                if(dik >= INF) {
+                    continue;
+                }
+                if(reachesAll) {
+                    for(int j = jStart; j < jEnd; j++) {
+                        int s = dik + d[kRow + j];
+                        if(s < d[iRow + j]) {
+                            d[iRow + j] = s;
+                        }
+                    }
+                } else {
+                    for(int j = jStart; j < jEnd; j++) {
+                        int dkj = d[kRow + j];
+                        int s = dik + dkj;
+                        if(dkj < INF && s < d[iRow + j]) {
+                            d[iRow + j] = s;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cells in a square matrix, erroring out if it does not fit in an array
+     *
+     * @param n the number of vertices
+     * @return the number of cells
+     */
+    private static int checkedSize(int n) {
+        long cells = (long) n * n;
+        if(cells > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Graph is too large for a dense distance matrix");
+        }
+        return (int) cells;
+    }
+}
@@ -0,0 +1,60 @@
+package com.foley.util.graph;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed size set of bits that many threads can set at once. Each bit can be claimed by exactly one thread
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+class AtomicBitSet {
+    private final AtomicLongArray words;
+
+    /**
+     * Creates a new bit set with every bit cleared
+     *
+     * @param size the number of bits
+     */
+    AtomicBitSet(int size) {
+        words = new AtomicLongArray((size + 63) >>> 6);
+    }
+
+    /**
+     * Returns true if the bit is set
+     *
+     * @param i the index of the bit
+     * @return true if the bit is set
+     */
+    boolean get(int i) {
+        return (words.get(i >>> 6) & (1L << i)) != 0;
+    }
+
+    /**
+     * Sets the bit if it is not already set
+     *
+     * @param i the index of the bit
+     * @return true if this call set the bit, false if it was already set
+     */
+    boolean claim(int i) {
+        int w = i >>> 6;
+        long mask = 1L << i;
+        long old = words.get(w);
+        while((old & mask) == 0) {
+            if(words.compareAndSet(w, old, old | mask)) {
+                return true;
+            }
+            old = words.get(w);
+        }
+        return false;
+    }
+
+    /**
+     * Clears every bit. Must not run while other threads use the set
+     */
+    void clear() {
+        for(int i = 0; i < words.length(); i++) {
+            words.lazySet(i, 0);
+        }
+    }
+}
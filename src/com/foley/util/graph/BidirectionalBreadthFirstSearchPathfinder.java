@@ -0,0 +1,156 @@
+package com.foley.util.graph;
+
+/**
+ * Finds paths in a graph utilizing Breadth First Search Algorithm grown from both ends. Searches to a target expand one
+ * level at a time from whichever end has the smaller frontier, using the reverse graph for the target end, and stop
+ * at the level where the two frontiers first meet
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class BidirectionalBreadthFirstSearchPathfinder<E> extends BreadthFirstSearchPathfinder<E> {
+    private CompactGraph<E> reverse;
+    private SearchState backward;
+    // Hop counts from each end, valid for the vertices each end has reached in the current search
+    private int[] fHops;
+    private int[] bHops;
+
+    /**
+     * Creates a new pathfinder utilizing the bidirectional breadth first search algorithm
+     *
+     * @param g the graph to search
+     */
+    public BidirectionalBreadthFirstSearchPathfinder(Graph<E> g) {
+        this(g.freeze());
+    }
+
+    /**
+     * Creates a new pathfinder utilizing the bidirectional breadth first search algorithm
+     *
+     * @param g the compact graph to search
+     */
+    public BidirectionalBreadthFirstSearchPathfinder(CompactGraph<E> g) {
+        super(g);
+        this.reverse = g.reverse();
+        this.backward = new SearchState(g.size());
+        this.fHops = new int[g.size()];
+        this.bHops = new int[g.size()];
+    }
+
+    @Override
+    /**
+     * Searches the graph from a source vertex to a target vertex. Without a target the search is breadth first search.
+     * Afterwards only the vertices on the found path are guaranteed to hold their search results
+     *
+     * @param from the vertex to search from
+     * @param to the vertex to search to
+     */
+    public void searchGraphTo(E from, E to) {
+        // A search of every vertex cannot be met from the other end
+        if(to == null) {
+            super.searchGraphTo(from, null);
+            return;
+        }
+        // Get and prepare the source and target vertices
+        int target = g.getId(to);
+        if(target < 0) {
+            throw new IllegalArgumentException("Could not find target node based off of provided end point");
+        }
+        int source = beginSearch(from);
+        // Backward search state, scores are the cost to reach the target
+        backward.reset();
+        backward.setScore(target, 0);
+
+        // Prepare both frontiers. Each vertex is queued at most once per end
+        int n = g.size();
+        int[] fq = state.buffer(n);
+        int[] bq = backward.buffer(n);
+        int fHead = 0;
+        int fTail = 0;
+        int bHead = 0;
+        int bTail = 0;
+        state.visit(source);
+        fHops[source] = 0;
+        fq[fTail++] = source;
+        backward.visit(target);
+        bHops[target] = 0;
+        bq[bTail++] = target;
+
+        // Best meeting by hop count, ties broken by cost
+        int meet = source == target ? source : SearchState.NONE;
+        int bestHops = source == target ? 0 : Integer.MAX_VALUE;
+        long bestCost = 0;
+
+        // Expand whole levels until the frontiers meet or one runs dry
+        while(meet == SearchState.NONE && fHead < fTail && bHead < bTail) {
+            if(fTail - fHead <= bTail - bHead) {
+                // Grow the forward frontier by one level
+                int levelEnd = fTail;
+                while(fHead < levelEnd) {
+                    int current = fq[fHead++];
+                    int score = state.getScore(current);
+                    for(int i = g.getEdgeStart(current), end = g.getEdgeEnd(current); i < end; i++) {
+                        int next = g.getTarget(i);
+                        if(state.isVisited(next)) {
+                            continue;
+                        }
+                        state.setScore(next, score + g.getCost(i));
+                        state.setParent(next, current);
+                        state.visit(next);
+                        fHops[next] = fHops[current] + 1;
+                        fq[fTail++] = next;
+                        // Check for a meeting with the backward frontier
+                        if(backward.isVisited(next)) {
+                            int hops = fHops[next] + bHops[next];
+                            long cost = (long) state.getScore(next) + backward.getScore(next);
+                            if(hops < bestHops || hops == bestHops && cost < bestCost) {
+                                meet = next;
+                                bestHops = hops;
+                                bestCost = cost;
+                            }
+                        }
+                    }
+                }
+            } else {
+                // Grow the backward frontier by one level
+                int levelEnd = bTail;
+                while(bHead < levelEnd) {
+                    int current = bq[bHead++];
+                    int score = backward.getScore(current);
+                    for(int i = reverse.getEdgeStart(current), end = reverse.getEdgeEnd(current); i < end; i++) {
+                        int next = reverse.getTarget(i);
+                        if(backward.isVisited(next)) {
+                            continue;
+                        }
+                        backward.setScore(next, score + reverse.getCost(i));
+                        backward.setParent(next, current);
+                        backward.visit(next);
+                        bHops[next] = bHops[current] + 1;
+                        bq[bTail++] = next;
+                        // Check for a meeting with the forward frontier
+                        if(state.isVisited(next)) {
+                            int hops = fHops[next] + bHops[next];
+                            long cost = (long) state.getScore(next) + backward.getScore(next);
+                            if(hops < bestHops || hops == bestHops && cost < bestCost) {
+                                meet = next;
+                                bestHops = hops;
+                                bestCost = cost;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        // Join the backward half of the path onto the forward search tree
+        if(meet != SearchState.NONE) {
+            for(int v = meet; v != target; v = backward.getParent(v)) {
+                int step = backward.getParent(v);
+                // The edge to the backward parent costs the difference of their backward scores
+                state.setScore(step, state.getScore(v) + backward.getScore(v) - backward.getScore(step));
+                state.setParent(step, v);
+                state.visit(step);
+            }
+        }
+    }
+}
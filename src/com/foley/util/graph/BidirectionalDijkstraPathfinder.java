@@ -0,0 +1,133 @@
+package com.foley.util.graph;
+
+/**
+ * Finds paths in a graph utilizing Dijkstra's Algorithm grown from both ends. Searches to a target grow one frontier
+ * from the source and one from the target over the reverse graph, and stop once no shorter meeting is possible. Edge
+ * costs must not be negative
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class BidirectionalDijkstraPathfinder<E> extends DijkstraPathfinder<E> {
+    private CompactGraph<E> reverse;
+    private SearchState backward;
+
+    /**
+     * Creates a new pathfinder utilizing bidirectional dijkstra's algorithm
+     *
+     * @param g the graph to search
+     */
+    public BidirectionalDijkstraPathfinder(Graph<E> g) {
+        this(g.freeze());
+    }
+
+    /**
+     * Creates a new pathfinder utilizing bidirectional dijkstra's algorithm
+     *
+     * @param g the compact graph to search
+     */
+    public BidirectionalDijkstraPathfinder(CompactGraph<E> g) {
+        super(g);
+        this.reverse = g.reverse();
+        this.backward = new SearchState(g.size());
+    }
+
+    @Override
+    /**
+     * Searches the graph from a source vertex to a target vertex. Without a target the search is dijkstra's algorithm.
+     * Afterwards only the vertices on the found path are guaranteed to hold their shortest path
+     *
+     * @param from the vertex to search from
+     * @param to the vertex to search to
+     */
+    public void searchGraphTo(E from, E to) {
+        // A search of every vertex cannot be met from the other end
+        if(to == null) {
+            super.searchGraphTo(from, null);
+            return;
+        }
+        // Get and prepare the source and target vertices
+        int target = g.getId(to);
+        if(target < 0) {
+            throw new IllegalArgumentException("Could not find target node based off of provided end point");
+        }
+        int source = beginSearch(from);
+        // Backward search state, scores are the cost to reach the target
+        backward.reset();
+        backward.setScore(target, 0);
+
+        // Setup both search spaces
+        IndexedHeap fq = state.heap();
+        IndexedHeap bq = backward.heap();
+        fq.offer(source, 0);
+        bq.offer(target, 0);
+
+        // Best meeting found so far
+        int best = source == target ? 0 : Integer.MAX_VALUE;
+        int meet = source == target ? source : SearchState.NONE;
+
+        // Continue until a frontier is exhausted or neither can improve on the best meeting
+        while(!fq.isEmpty() && !bq.isEmpty()) {
+            long bound = (long) fq.getKey(fq.peek()) + bq.getKey(bq.peek());
+            if(bound >= best) {
+                break;
+            }
+            // Grow the smaller frontier
+            if(fq.size() <= bq.size()) {
+                int current = fq.poll();
+                state.visit(current);
+                int score = state.getScore(current);
+                for(int i = g.getEdgeStart(current), end = g.getEdgeEnd(current); i < end; i++) {
+                    int next = g.getTarget(i);
+                    if(state.isVisited(next)) {
+                        continue;
+                    }
+                    int newScore = score + g.getCost(i);
+                    if(newScore < state.getScore(next)) {
+                        state.setScore(next, newScore);
+                        state.setParent(next, current);
+                        fq.offer(next, newScore);
+                        // Check for a better meeting with the backward frontier
+                        int bScore = backward.getScore(next);
+                        if(bScore != Integer.MAX_VALUE && (long) newScore + bScore < best) {
+                            best = newScore + bScore;
+                            meet = next;
+                        }
+                    }
+                }
+            } else {
+                int current = bq.poll();
+                backward.visit(current);
+                int score = backward.getScore(current);
+                for(int i = reverse.getEdgeStart(current), end = reverse.getEdgeEnd(current); i < end; i++) {
+                    int next = reverse.getTarget(i);
+                    if(backward.isVisited(next)) {
+                        continue;
+                    }
+                    int newScore = score + reverse.getCost(i);
+                    if(newScore < backward.getScore(next)) {
+                        backward.setScore(next, newScore);
+                        backward.setParent(next, current);
+                        bq.offer(next, newScore);
+                        // Check for a better meeting with the forward frontier
+                        int fScore = state.getScore(next);
+                        if(fScore != Integer.MAX_VALUE && (long) fScore + newScore < best) {
+                            best = fScore + newScore;
+                            meet = next;
+                        }
+                    }
+                }
+            }
+        }
+
+        // Join the backward half of the path onto the forward search tree
+        if(meet != SearchState.NONE) {
+            for(int v = meet; v != target; v = backward.getParent(v)) {
+                int step = backward.getParent(v);
+                state.setScore(step, best - backward.getScore(step));
+                state.setParent(step, v);
+                state.visit(step);
+            }
+        }
+    }
+}
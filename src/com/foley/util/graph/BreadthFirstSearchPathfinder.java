@@ -1,8 +1,5 @@
 package com.foley.util.graph;
 
-import java.util.LinkedList;
-import java.util.Queue;
-
 /**
  * Finds paths in a graph utilizing Breadth First Search Algorithm
  *
@@ -19,6 +16,15 @@ public class BreadthFirstSearchPathfinder<E> extends Pathfinder<E> {
         super(g);
     }
 
+    /**
+     * Creates a new pathfinder utilizing the breadth first search algorithm
+     *
+     * @param g the compact graph to search
+     */
+    public BreadthFirstSearchPathfinder(CompactGraph<E> g) {
+        super(g);
+    }
+
     @Override
     /**
      * Searches the graph from a source vertex to a target vertex
@@ -27,42 +33,39 @@ public class BreadthFirstSearchPathfinder<E> extends Pathfinder<E> {
      * @param to the vertex to search to
      */
     public void searchGraphTo(E from, E to) {
-        // Prepare the search space
-        Queue<E> q = new LinkedList<>();
-        // Get and prepare the source node
-        SearchNode<E> node = nodes.get(from);
-        // Error out if source not found
-        if(node == null) {
-            throw new IllegalArgumentException("Could not find source node based off of provided starting point");
-        }
-        node.setScore(0);
-        node.visit();
-        q.offer(from);
+        // Get and prepare the source vertex
+        int source = beginSearch(from);
+        // Prepare the search space. Each vertex is queued at most once
+        int[] q = state.buffer(g.size());
+        int head = 0;
+        int tail = 0;
+        state.visit(source);
+        q[tail++] = source;
 
-        // Search while there are nodes in the queue
-        while(!q.isEmpty()) {
-            E current = q.poll();
-            node = nodes.get(current);
+        // Search while there are vertices in the queue
+        while(head < tail) {
+            int current = q[head++];
 
             // Early exit
-            if(to != null && to == current) {
+            if(to != null && to.equals(g.getVertex(current))) {
                 return;
             }
 
-            // Process the neighbors for this node
-            for(E e : g.getNeighbors(current)) {
-                SearchNode<E> neighbor = nodes.get(e);
-                int newScore = node.getScore() + g.getEdgeCost(current, e);
+            // Process the neighbors for this vertex
+            int score = state.getScore(current);
+            for(int i = g.getEdgeStart(current), end = g.getEdgeEnd(current); i < end; i++) {
+                int next = g.getTarget(i);
+                int newScore = score + g.getCost(i);
                 // Process neighbor if it has not been visited
-                if(!neighbor.isVisited()) {
-                    neighbor.setScore(newScore);
-                    neighbor.setParent(node);
-                    neighbor.visit();
-                    q.offer(e);
+                if(!state.isVisited(next)) {
+                    state.setScore(next, newScore);
+                    state.setParent(next, current);
+                    state.visit(next);
+                    q[tail++] = next;
                 } else {
-                    if(newScore < neighbor.getScore()) {
-                        neighbor.setScore(newScore);
-                        neighbor.setParent(node);
+                    if(newScore < state.getScore(next)) {
+                        state.setScore(next, newScore);
+                        state.setParent(next, current);
                     }
                 }
             }
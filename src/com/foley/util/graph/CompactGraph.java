@@ -0,0 +1,294 @@
+package com.foley.util.graph;
+
+import java.nio.IntBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable graph stored in compressed sparse row form. Vertices are interned to dense ids 0 through size() - 1,
+ * and the edges leaving vertex v are stored at indices getEdgeStart(v) (inclusive) through getEdgeEnd(v) (exclusive)
+ * of the target and cost arrays. The arrays are held as int buffers, so a graph can be backed by the heap or by a
+ * memory mapped file. A compact graph is safe to share between threads
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ * @param <E> The type of the graph
+ */
+public class CompactGraph<E> {
+    private final boolean directional;
+    private final E[] vertices;
+    private final Map<E, Integer> ids;
+    private final IntBuffer offsets;
+    private final IntBuffer targets;
+    private final IntBuffer costs;
+    private volatile CompactGraph<E> reverse;
+
+    /**
+     * Creates a new compact graph from already interned arrays. The arrays are used as is and must not be modified
+     * afterwards
+     *
+     * @param directional true if the graph is directional
+     * @param vertices the vertices, indexed by id
+     * @param offsets the edge offsets of each vertex, with one extra trailing entry holding the edge count
+     * @param targets the target vertex id of each edge
+     * @param costs the cost of each edge
+     */
+    CompactGraph(boolean directional, E[] vertices, int[] offsets, int[] targets, int[] costs) {
+        this(directional, vertices, indexVertices(vertices), offsets, targets, costs);
+    }
+
+    /**
+     * Creates a new compact graph from already interned arrays. The arrays are used as is and must not be modified
+     * afterwards
+     *
+     * @param directional true if the graph is directional
+     * @param vertices the vertices, indexed by id
+     * @param ids the id of each vertex
+     * @param offsets the edge offsets of each vertex, with one extra trailing entry holding the edge count
+     * @param targets the target vertex id of each edge
+     * @param costs the cost of each edge
+     */
+    CompactGraph(boolean directional, E[] vertices, Map<E, Integer> ids, int[] offsets, int[] targets, int[] costs) {
+        this(directional, vertices, ids, IntBuffer.wrap(offsets), IntBuffer.wrap(targets), IntBuffer.wrap(costs));
+    }
+
+    /**
+     * Creates a new compact graph from already interned buffers, which may be memory mapped. The buffers are indexed
+     * from 0 to their limit and must not be modified afterwards
+     *
+     * @param directional true if the graph is directional
+     * @param vertices the vertices, indexed by id
+     * @param ids the id of each vertex
+     * @param offsets the edge offsets of each vertex, with one extra trailing entry holding the edge count
+     * @param targets the target vertex id of each edge
+     * @param costs the cost of each edge
+     */
+    CompactGraph(boolean directional, E[] vertices, Map<E, Integer> ids, IntBuffer offsets, IntBuffer targets, IntBuffer costs) {
+        if(offsets.limit() != vertices.length + 1 || targets.limit() != costs.limit() || offsets.get(vertices.length) != targets.limit()) {
+            throw new IllegalArgumentException("Offsets, targets and costs do not describe the vertices of the graph");
+        }
+        this.directional = directional;
+        this.vertices = vertices;
+        this.ids = ids;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.costs = costs;
+    }
+
+    /**
+     * Maps each vertex to its index in the array
+     *
+     * @param vertices the vertices
+     * @return the id of each vertex
+     */
+    static <E> Map<E, Integer> indexVertices(E[] vertices) {
+        Map<E, Integer> ids = new HashMap<>(vertices.length * 4 / 3 + 1);
+        for(int i = 0; i < vertices.length; i++) {
+            ids.put(vertices[i], i);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns true if the graph is directional
+     *
+     * @return true if the graph is directional
+     */
+    public boolean isDirectional() {
+        return directional;
+    }
+
+    /**
+     * Returns the number of vertices in the graph
+     *
+     * @return the number of vertices in the graph
+     */
+    public int size() {
+        return vertices.length;
+    }
+
+    /**
+     * Returns the number of stored edges in the graph. Non directional edges are stored once in each direction
+     *
+     * @return the number of stored edges in the graph
+     */
+    public int edgeCount() {
+        return targets.limit();
+    }
+
+    /**
+     * Returns the id of a vertex
+     *
+     * @param e the vertex
+     * @return the id of the vertex, or -1 if the vertex is not in the graph
+     */
+    public int getId(E e) {
+        Integer id = ids.get(e);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the vertex with the id
+     *
+     * @param id the id
+     * @return the vertex with the id
+     */
+    public E getVertex(int id) {
+        return vertices[id];
+    }
+
+    /**
+     * Returns the vertices that are in the graph, ordered by id
+     *
+     * @return the vertices that are in the graph
+     */
+    public List<E> getVertices() {
+        return new AbstractList<E>() {
+            @Override
+            public E get(int index) {
+                return vertices[index];
+            }
+
+            @Override
+            public int size() {
+                return vertices.length;
+            }
+        };
+    }
+
+    /**
+     * Returns true if the graph contains the vertex
+     *
+     * @param e the vertex
+     * @return true if the vertex is in the graph
+     */
+    public boolean containsVertex(E e) {
+        return ids.containsKey(e);
+    }
+
+    /**
+     * Returns the index of the first edge leaving the vertex
+     *
+     * @param id the vertex id
+     * @return the index of the first edge leaving the vertex
+     */
+    public int getEdgeStart(int id) {
+        return offsets.get(id);
+    }
+
+    /**
+     * Returns the index one past the last edge leaving the vertex
+     *
+     * @param id the vertex id
+     * @return the index one past the last edge leaving the vertex
+     */
+    public int getEdgeEnd(int id) {
+        return offsets.get(id + 1);
+    }
+
+    /**
+     * Returns the number of edges leaving the vertex
+     *
+     * @param id the vertex id
+     * @return the number of edges leaving the vertex
+     */
+    public int getDegree(int id) {
+        return offsets.get(id + 1) - offsets.get(id);
+    }
+
+    /**
+     * Returns the id of the vertex an edge leads to
+     *
+     * @param edge the edge index
+     * @return the id of the vertex the edge leads to
+     */
+    public int getTarget(int edge) {
+        return targets.get(edge);
+    }
+
+    /**
+     * Returns the cost to travel along an edge
+     *
+     * @param edge the edge index
+     * @return the cost to travel along the edge
+     */
+    public int getCost(int edge) {
+        return costs.get(edge);
+    }
+
+    /**
+     * Returns the graph with every edge reversed, sharing the vertex ids of this graph. A non directional graph is its
+     * own reverse. The reverse index is built on first use and kept
+     *
+     * @return the graph with every edge reversed
+     */
+    public CompactGraph<E> reverse() {
+        if(!directional) {
+            return this;
+        }
+        CompactGraph<E> r = reverse;
+        if(r == null) {
+            int n = vertices.length;
+            // Count the edges entering each vertex
+            int m = targets.limit();
+            int[] rOffsets = new int[n + 1];
+            for(int i = 0; i < m; i++) {
+                rOffsets[targets.get(i) + 1]++;
+            }
+            for(int i = 0; i < n; i++) {
+                rOffsets[i + 1] += rOffsets[i];
+            }
+            // Scatter each edge into the row of its target
+            int[] next = Arrays.copyOf(rOffsets, n);
+            int[] rTargets = new int[m];
+            int[] rCosts = new int[m];
+            for(int v = 0; v < n; v++) {
+                for(int i = offsets.get(v); i < offsets.get(v + 1); i++) {
+                    int slot = next[targets.get(i)]++;
+                    rTargets[slot] = v;
+                    rCosts[slot] = costs.get(i);
+                }
+            }
+            r = new CompactGraph<>(true, vertices, ids, rOffsets, rTargets, rCosts);
+            r.reverse = this;
+            reverse = r;
+        }
+        return r;
+    }
+
+    /**
+     * Returns the cost to travel along the edge between the two vertices
+     *
+     * @param from the source vertex
+     * @param to the destination vertex
+     * @return the cost to travel along the edge, or -1 if the vertices are not adjacent
+     */
+    public int getEdgeCost(E from, E to) {
+        int f = getId(from);
+        int t = getId(to);
+        // If either vertex isn't in the graph, error out
+        if(f < 0 || t < 0) {
+            throw new IllegalArgumentException("Cannot get cost for an edge between vertices that aren't in the graph");
+        }
+        for(int i = offsets.get(f); i < offsets.get(f + 1); i++) {
+            if(targets.get(i) == t) {
+                return costs.get(i);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if an edge exists between the two vertices
+     *
+     * @param from the source vertex
+     * @param to the destination vertex
+     * @return true if an edge is between the two vertices
+     */
+    public boolean areAdjacent(E from, E to) {
+        return getEdgeCost(from, to) > -1;
+    }
+}
@@ -1,6 +1,6 @@
 package com.foley.util.graph;
 
-import java.util.Stack;
+import java.util.Arrays;
 
 /**
  * Finds paths in a graph utilizing Depth First Search Algorithm
@@ -18,6 +18,15 @@ public class DepthFirstSearchPathfinder<E> extends Pathfinder<E> {
         super(g);
     }
 
+    /**
+     * Creates a new pathfinder utilizing the depth first search algorithm
+     *
+     * @param g the compact graph to search
+     */
+    public DepthFirstSearchPathfinder(CompactGraph<E> g) {
+        super(g);
+    }
+
     @Override
     /**
      * Searches the graph from a source vertex to a target vertex
@@ -26,37 +35,37 @@ public class DepthFirstSearchPathfinder<E> extends Pathfinder<E> {
      * @param to the vertex to search to
      */
     public void searchGraphTo(E from, E to) {
+        // Get and prepare the source vertex
+        int source = beginSearch(from);
         // Prepare the search space
-        Stack<E> s = new Stack<>();
-        // Get and prepare the source node
-        SearchNode<E> node = nodes.get(from);
-        // Error out if source not found
-        if(node == null) {
-            throw new IllegalArgumentException("Could not find source node based off of provided starting point");
-        }
-        node.setScore(0);
-        s.push(from);
+        int[] s = state.buffer(g.size());
+        int top = 0;
+        s[top++] = source;
 
-        // Search while there are still nodes on the stack
-        while(!s.isEmpty()) {
-            E current = s.pop();
-            node = nodes.get(current);
-            if(!node.isVisited()) {
-                node.visit();
+        // Search while there are still vertices on the stack
+        while(top > 0) {
+            int current = s[--top];
+            if(!state.isVisited(current)) {
+                state.visit(current);
 
                 // Process neighbors
-                for(E e : g.getNeighbors(current)) {
-                    SearchNode<E> neighbor = nodes.get(e);
-                    int newScore = node.getScore() + g.getEdgeCost(current, e);
+                int score = state.getScore(current);
+                for(int i = g.getEdgeStart(current), end = g.getEdgeEnd(current); i < end; i++) {
+                    int next = g.getTarget(i);
+                    int newScore = score + g.getCost(i);
                     // Add to stack if it hasn't been visited
-                    if(!neighbor.isVisited()) {
-                        neighbor.setScore(newScore);
-                        neighbor.setParent(node);
-                        s.push(e);
+                    if(!state.isVisited(next)) {
+                        state.setScore(next, newScore);
+                        state.setParent(next, current);
+                        // Grow the stack if needed, a vertex may be pushed once per incoming edge
+                        if(top == s.length) {
+                            s = state.growBuffer();
+                        }
+                        s[top++] = next;
                     } else {
-                        if(newScore < neighbor.getScore()) {
-                            neighbor.setScore(newScore);
-                            neighbor.setParent(node);
+                        if(newScore < state.getScore(next)) {
+                            state.setScore(next, newScore);
+                            state.setParent(next, current);
                         }
                     }
                 }
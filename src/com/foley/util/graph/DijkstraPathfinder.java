@@ -1,8 +1,6 @@
 package com.foley.util.graph;
 
 import java.util.Comparator;
-import java.util.PriorityQueue;
-import java.util.Queue;
 
 /**
  * Finds paths in a graph utilizing Dijkstra's Algorithm
@@ -19,12 +17,24 @@ public class DijkstraPathfinder<E> extends Pathfinder<E> {
     public DijkstraPathfinder(Graph<E> g) {
         super(g);
     }
+
+    /**
+     * Creates a new pathfinder utilizing dijkstra's algorithm
+     *
+     * @param g the compact graph to search
+     */
+    public DijkstraPathfinder(CompactGraph<E> g) {
+        super(g);
+    }
+
     /**
      * Creates a new pathfinder utilizing dijkstra's algorithm
      *
      * @param g the graph to search
      * @param comp the comparator to use
+     * @deprecated nodes are ordered by their tentative distance, so a comparator is no longer needed
      */
+    @Deprecated
     public DijkstraPathfinder(Graph<E> g, Comparator<E> comp) {
         super(g, comp);
     }
@@ -37,47 +47,37 @@ public class DijkstraPathfinder<E> extends Pathfinder<E> {
      * @param to the vertex to search to
      */
     public void searchGraphTo(E from, E to) {
-        // Setup search space
-        Queue<E> q;
-        // Utilize custom comparator if one was provided
-        if(comp != null) {
-            q = new PriorityQueue<>(comp);
-        } else {
-            // PriorityQueue requires Comparable for natural-ordering. Error out if condition is not met
-            if(!(from instanceof Comparable)) {
-                throw new IllegalStateException("Dijkstra must work on objects of type Comparable. If type is not Comparable, please provide a Comparator for sorting");
-            }
-            q = new PriorityQueue<>();
-        }
-        // Get and prepare the source node
-        SearchNode<E> node = nodes.get(from);
-        // Error out if source not found
-        if(node == null) {
-            throw new IllegalArgumentException("Could not find source node based off of provided starting point");
-        }
-        node.setScore(0);
-        q.offer(from);
+        // Get and prepare the source vertex
+        int source = beginSearch(from);
+        // Setup search space ordered by the tentative distance of each vertex
+        IndexedHeap q = state.heap();
+        q.offer(source, 0);
 
         // Continue to process until queue is empty
         while(!q.isEmpty()) {
-            // Poll the priority node based off of the queue priority item
-            E current = q.poll();
-            node = nodes.get(current);
+            // Poll the vertex with the lowest tentative distance
+            int current = q.poll();
+            state.visit(current);
 
             // Early exit
-            if(to != null && to == current) {
+            if(to != null && to.equals(g.getVertex(current))) {
                 return;
             }
 
             // Process all neighbors
-            for(E e : g.getNeighbors(current)) {
-                SearchNode<E> neighbor = nodes.get(e);
-                int newScore = node.getScore() + g.getEdgeCost(current, e);
+            int score = state.getScore(current);
+            for(int i = g.getEdgeStart(current), end = g.getEdgeEnd(current); i < end; i++) {
+                int next = g.getTarget(i);
+                // Settled vertices already hold their final score
+                if(state.isVisited(next)) {
+                    continue;
+                }
+                int newScore = score + g.getCost(i);
                 // Update neighbor if new score is better than the old score
-                if(newScore < neighbor.getScore()) {
-                    neighbor.setScore(newScore);
-                    neighbor.setParent(node);
-                    q.offer(e);
+                if(newScore < state.getScore(next)) {
+                    state.setScore(next, newScore);
+                    state.setParent(next, current);
+                    q.offer(next, newScore);
                 }
             }
         }
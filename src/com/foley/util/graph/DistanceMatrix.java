@@ -0,0 +1,93 @@
+package com.foley.util.graph;
+
+/**
+ * The shortest path cost between every pair of vertices in a graph, stored row by row in a single array indexed by
+ * the vertex ids of the graph
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ * @param <E> The type of the graph
+ */
+public class DistanceMatrix<E> {
+    /**
+     * The cost between two vertices when the second cannot be reached from the first
+     */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final CompactGraph<E> g;
+    private final int[] dist;
+
+    /**
+     * Creates a new distance matrix
+     *
+     * @param g the graph the costs belong to
+     * @param dist the costs, row by row
+     */
+    DistanceMatrix(CompactGraph<E> g, int[] dist) {
+        if(dist.length != (long) g.size() * g.size()) {
+            throw new IllegalArgumentException("Distance matrix must hold one cost for every pair of vertices");
+        }
+        this.g = g;
+        this.dist = dist;
+    }
+
+    /**
+     * Returns the graph the costs belong to
+     *
+     * @return the graph the costs belong to
+     */
+    public CompactGraph<E> getGraph() {
+        return g;
+    }
+
+    /**
+     * Returns the number of vertices in each row and column
+     *
+     * @return the number of vertices
+     */
+    public int size() {
+        return g.size();
+    }
+
+    /**
+     * Returns the shortest path cost between two vertices
+     *
+     * @param from the source vertex
+     * @param to the destination vertex
+     * @return the shortest path cost, or UNREACHABLE if the destination cannot be reached
+     */
+    public int getCost(E from, E to) {
+        int f = g.getId(from);
+        int t = g.getId(to);
+        // If either vertex isn't in the graph, error out
+        if(f < 0 || t < 0) {
+            throw new IllegalArgumentException("Cannot get cost between vertices that aren't in the graph");
+        }
+        return getCost(f, t);
+    }
+
+    /**
+     * Returns the shortest path cost between two vertex ids
+     *
+     * @param from the source vertex id
+     * @param to the destination vertex id
+     * @return the shortest path cost, or UNREACHABLE if the destination cannot be reached
+     */
+    public int getCost(int from, int to) {
+        return dist[from * g.size() + to];
+    }
+
+    /**
+     * Copies the costs into a new square array
+     *
+     * @return the costs, indexed by source and destination vertex id
+     */
+    public int[][] toArray() {
+        int n = g.size();
+        int[][] arr = new int[n][n];
+        for(int i = 0; i < n; i++) {
+            System.arraycopy(dist, i * n, arr[i], 0, n);
+        }
+        return arr;
+    }
+}
@@ -0,0 +1,551 @@
+package com.foley.util.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shortest paths from one source vertex that are kept up to date as the graph changes. The graph is copied on creation
+ * and then changed through this class, and every change repairs only the part of the shortest path tree it can affect.
+ * Raising the cost of or removing a tree edge invalidates the subtree below it, whose vertices are re-seeded from
+ * their unaffected neighbors. Lowering a cost or adding an edge seeds the vertex it leads to. A single Dijkstra pass
+ * from the seeds then settles everything that changed. Costs must not be negative
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ * @param <E> The type of the graph
+ */
+public class DynamicShortestPaths<E> {
+    /**
+     * The cost of a vertex that cannot be reached from the source
+     */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final int NONE = SearchState.NONE;
+
+    private final boolean directional;
+    private final List<E> vertices;
+    private final Map<E, Integer> ids;
+    private final int source;
+    private Row[] out;
+    private Row[] in;
+    private int[] dist;
+    private int[] parent;
+    private IndexedHeap heap;
+
+    // Vertices marked during a repair, and the repair that marked them
+    private int[] mark;
+    private int epoch;
+    private int[] stack;
+
+    // Changes waiting to be repaired
+    private int[] roots;
+    private int rootCount;
+    private int[] lowered;
+    private int loweredCount;
+
+    /**
+     * Creates new shortest paths from a copy of a graph
+     *
+     * @param g the graph
+     * @param source the vertex to find paths from
+     */
+    public DynamicShortestPaths(Graph<E> g, E source) {
+        this(g.freeze(), source);
+    }
+
+    /**
+     * Creates new shortest paths from a copy of a compact graph
+     *
+     * @param g the compact graph
+     * @param source the vertex to find paths from
+     */
+    public DynamicShortestPaths(CompactGraph<E> g, E source) {
+        int n = g.size();
+        this.directional = g.isDirectional();
+        this.vertices = new ArrayList<>(g.getVertices());
+        this.ids = new HashMap<>(n * 4 / 3 + 1);
+        for(int v = 0; v < n; v++) {
+            ids.put(g.getVertex(v), v);
+        }
+        // Error out if source not found
+        if(!ids.containsKey(source)) {
+            throw new IllegalArgumentException("Could not find source node based off of provided starting point");
+        }
+        this.source = ids.get(source);
+
+        int capacity = Math.max(16, n);
+        out = new Row[capacity];
+        in = directional ? new Row[capacity] : out;
+        for(int v = 0; v < capacity; v++) {
+            out[v] = new Row();
+            if(directional) {
+                in[v] = new Row();
+            }
+        }
+        for(int v = 0; v < n; v++) {
+            for(int i = g.getEdgeStart(v); i < g.getEdgeEnd(v); i++) {
+                int cost = g.getCost(i);
+                if(cost < 0) {
+                    throw new IllegalArgumentException("Edge costs cannot be negative");
+                }
+                out[v].put(g.getTarget(i), cost);
+                if(directional) {
+                    in[g.getTarget(i)].put(v, cost);
+                }
+            }
+        }
+        dist = new int[capacity];
+        parent = new int[capacity];
+        mark = new int[capacity];
+        stack = new int[capacity];
+        heap = new IndexedHeap(capacity);
+        Arrays.fill(dist, UNREACHABLE);
+        Arrays.fill(parent, NONE);
+        roots = new int[16];
+        lowered = new int[16];
+
+        // Search the whole graph once, then only repair
+        dist[this.source] = 0;
+        heap.offer(this.source, 0);
+        propagate();
+    }
+
+    /**
+     * Returns true if the graph is directional
+     *
+     * @return true if the graph is directional
+     */
+    public boolean isDirectional() {
+        return directional;
+    }
+
+    /**
+     * Returns the source vertex
+     *
+     * @return the source vertex
+     */
+    public E getSource() {
+        return vertices.get(source);
+    }
+
+    /**
+     * Returns true if the graph contains the vertex
+     *
+     * @param e the vertex
+     * @return true if the vertex is in the graph
+     */
+    public boolean containsVertex(E e) {
+        return ids.containsKey(e);
+    }
+
+    /**
+     * Adds a vertex to the graph if it is not already in the graph. The new vertex cannot be reached until an edge
+     * leads to it
+     *
+     * @param e the vertex
+     * @return true if the vertex was added
+     */
+    public boolean addVertex(E e) {
+        if(ids.containsKey(e)) {
+            return false;
+        }
+        int id = vertices.size();
+        ensureCapacity(id + 1);
+        vertices.add(e);
+        ids.put(e, id);
+        return true;
+    }
+
+    /**
+     * Adds an edge to the graph with a cost of 1, or sets the cost of an existing edge to 1
+     *
+     * @param from the source vertex
+     * @param to the destination vertex
+     */
+    public void addEdge(E from, E to) {
+        addEdge(from, to, 1);
+    }
+
+    /**
+     * Adds an edge to the graph, or changes the cost of an existing edge, and repairs the shortest paths
+     *
+     * @param from the source vertex
+     * @param to the destination vertex
+     * @param cost the cost to travel along the edge
+     */
+    public void addEdge(E from, E to, int cost) {
+        if(cost < 0) {
+            throw new IllegalArgumentException("Edge costs cannot be negative");
+        }
+        int u = idOf(from, "Edges must be added between vertices that are in the graph");
+        int v = idOf(to, "Edges must be added between vertices that are in the graph");
+        changeEdge(u, v, cost);
+        if(!directional) {
+            changeEdge(v, u, cost);
+        }
+        repair();
+    }
+
+    /**
+     * Removes an edge from the graph and repairs the shortest paths
+     *
+     * @param from the source vertex
+     * @param to the destination vertex
+     * @return true if the edge was removed
+     */
+    public boolean removeEdge(E from, E to) {
+        int u = idOf(from, "Edges must be removed between vertices that are in the graph");
+        int v = idOf(to, "Edges must be removed between vertices that are in the graph");
+        if(out[u].get(v) < 0) {
+            return false;
+        }
+        changeEdge(u, v, -1);
+        if(!directional) {
+            changeEdge(v, u, -1);
+        }
+        repair();
+        return true;
+    }
+
+    /**
+     * Removes a vertex and every edge touching it from the graph, and repairs the shortest paths
+     *
+     * @param e the vertex
+     * @return true if the vertex was removed
+     */
+    public boolean removeVertex(E e) {
+        Integer id = ids.get(e);
+        if(id == null) {
+            return false;
+        }
+        // Error out if the source would be removed
+        if(id == source) {
+            throw new IllegalArgumentException("Cannot remove the source vertex");
+        }
+        int r = id;
+        while(out[r].size > 0) {
+            int v = out[r].targets[out[r].size - 1];
+            changeEdge(r, v, -1);
+            if(!directional) {
+                changeEdge(v, r, -1);
+            }
+        }
+        while(in[r].size > 0) {
+            changeEdge(in[r].targets[in[r].size - 1], r, -1);
+        }
+        repair();
+        // The id is retired rather than reused, so the vertex can be added back as a new one
+        ids.remove(e);
+        vertices.set(r, null);
+        return true;
+    }
+
+    /**
+     * Returns the cost of the edge between two vertices
+     *
+     * @param from the source vertex
+     * @param to the destination vertex
+     * @return the cost of the edge, or -1 if the vertices are not adjacent
+     */
+    public int getEdgeCost(E from, E to) {
+        int u = idOf(from, "Cannot get cost for an edge between vertices that aren't in the graph");
+        int v = idOf(to, "Cannot get cost for an edge between vertices that aren't in the graph");
+        return out[u].get(v);
+    }
+
+    /**
+     * Returns the cost of the shortest path from the source to a vertex
+     *
+     * @param to the vertex
+     * @return the cost of the shortest path, or UNREACHABLE if the vertex cannot be reached
+     */
+    public int getCost(E to) {
+        return dist[idOf(to, "Vertex is not in the graph")];
+    }
+
+    /**
+     * Returns true if a vertex can be reached from the source
+     *
+     * @param to the vertex
+     * @return true if the vertex can be reached
+     */
+    public boolean isReachable(E to) {
+        return getCost(to) != UNREACHABLE;
+    }
+
+    /**
+     * Returns the vertex before a vertex on its shortest path from the source
+     *
+     * @param e the vertex
+     * @return the parent of the vertex, or null for the source and for vertices that cannot be reached
+     */
+    public E getParent(E e) {
+        int p = parent[idOf(e, "Vertex is not in the graph")];
+        return p == NONE ? null : vertices.get(p);
+    }
+
+    /**
+     * Returns the shortest path from the source to a vertex
+     *
+     * @param to the vertex
+     * @return the path to the vertex, empty if it cannot be reached
+     */
+    public Path<E> getPathTo(E to) {
+        int id = idOf(to, "Vertex is not in the graph");
+        if(dist[id] == UNREACHABLE) {
+            return new Path<>(new Object[0], new int[0], 0, 0, false);
+        }
+        int size = 0;
+        for(int v = id; v != NONE; v = parent[v]) {
+            size++;
+        }
+        Object[] steps = new Object[size];
+        int[] costs = new int[size];
+        int index = size;
+        for(int v = id; v != NONE; v = parent[v]) {
+            steps[--index] = vertices.get(v);
+            costs[index] = dist[v];
+        }
+        return new Path<>(steps, costs, 0, size, false);
+    }
+
+    /**
+     * Changes one directed edge and records what the change needs repaired
+     *
+     * @param u the source vertex id
+     * @param v the destination vertex id
+     * @param cost the new cost, or -1 to remove the edge
+     */
+    private void changeEdge(int u, int v, int cost) {
+        int old = cost < 0 ? out[u].remove(v) : out[u].put(v, cost);
+        if(directional) {
+            if(cost < 0) {
+                in[v].remove(u);
+            } else {
+                in[v].put(u, cost);
+            }
+        }
+        // A tree edge that got worse invalidates the subtree below it
+        if(old > -1 && (cost < 0 || cost > old) && parent[v] == u) {
+            if(rootCount == roots.length) {
+                roots = Arrays.copyOf(roots, rootCount * 2);
+            }
+            roots[rootCount++] = v;
+        }
+        // An edge that got better may give its destination a shorter path
+        if(cost > -1 && (old < 0 || cost < old)) {
+            if(loweredCount + 2 > lowered.length) {
+                lowered = Arrays.copyOf(lowered, lowered.length * 2);
+            }
+            lowered[loweredCount++] = u;
+            lowered[loweredCount++] = v;
+        }
+    }
+
+    /**
+     * Repairs the shortest paths after the recorded changes
+     */
+    private void repair() {
+        if(rootCount == 0 && loweredCount == 0) {
+            return;
+        }
+        if(++epoch == Integer.MAX_VALUE) {
+            // Wrap around without letting an old mark collide with a new epoch
+            Arrays.fill(mark, 0);
+            epoch = 1;
+        }
+
+        // Invalidate every subtree below a worsened tree edge, collecting the affected vertices on the stack
+        int affected = 0;
+        for(int r = 0; r < rootCount; r++) {
+            int root = roots[r];
+            if(mark[root] == epoch) {
+                continue;
+            }
+            mark[root] = epoch;
+            int top = affected;
+            stack[affected++] = root;
+            while(top < affected) {
+                int x = stack[top++];
+                Row row = out[x];
+                for(int i = 0; i < row.size; i++) {
+                    int y = row.targets[i];
+                    if(parent[y] == x && mark[y] != epoch) {
+                        mark[y] = epoch;
+                        stack[affected++] = y;
+                    }
+                }
+            }
+        }
+        for(int i = 0; i < affected; i++) {
+            dist[stack[i]] = UNREACHABLE;
+            parent[stack[i]] = NONE;
+        }
+
+        // Seed each affected vertex from its best unaffected neighbor
+        for(int i = 0; i < affected; i++) {
+            int w = stack[i];
+            Row row = in[w];
+            for(int j = 0; j < row.size; j++) {
+                int p = row.targets[j];
+                if(mark[p] != epoch && dist[p] != UNREACHABLE && dist[p] + row.costs[j] < dist[w]) {
+                    dist[w] = dist[p] + row.costs[j];
+                    parent[w] = p;
+                }
+            }
+            if(dist[w] != UNREACHABLE) {
+                heap.offer(w, dist[w]);
+            }
+        }
+
+        // Seed the destination of every improved edge that still exists
+        for(int i = 0; i < loweredCount; i += 2) {
+            int u = lowered[i];
+            int v = lowered[i + 1];
+            int cost = out[u].get(v);
+            if(cost > -1 && dist[u] != UNREACHABLE && dist[u] + cost < dist[v]) {
+                dist[v] = dist[u] + cost;
+                parent[v] = u;
+                heap.offer(v, dist[v]);
+            }
+        }
+        rootCount = 0;
+        loweredCount = 0;
+        propagate();
+    }
+
+    /**
+     * Runs Dijkstra from the vertices in the heap until every improvement has been passed on
+     */
+    private void propagate() {
+        while(!heap.isEmpty()) {
+            int x = heap.poll();
+            int score = dist[x];
+            Row row = out[x];
+            for(int i = 0; i < row.size; i++) {
+                int y = row.targets[i];
+                int newScore = score + row.costs[i];
+                if(newScore < dist[y]) {
+                    dist[y] = newScore;
+                    parent[y] = x;
+                    heap.offer(y, newScore);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the id of a vertex, erroring out if it is not in the graph
+     *
+     * @param e the vertex
+     * @param message the message to error out with
+     * @return the id of the vertex
+     */
+    private int idOf(E e, String message) {
+        Integer id = ids.get(e);
+        if(id == null) {
+            throw new IllegalArgumentException(message);
+        }
+        return id;
+    }
+
+    /**
+     * Grows the per vertex arrays to hold at least a number of vertex ids
+     *
+     * @param capacity the number of vertex ids
+     */
+    private void ensureCapacity(int capacity) {
+        int old = dist.length;
+        if(capacity <= old) {
+            return;
+        }
+        int grown = Math.max(capacity, old * 2);
+        out = Arrays.copyOf(out, grown);
+        in = directional ? Arrays.copyOf(in, grown) : out;
+        for(int v = old; v < grown; v++) {
+            out[v] = new Row();
+            if(directional) {
+                in[v] = new Row();
+            }
+        }
+        dist = Arrays.copyOf(dist, grown);
+        parent = Arrays.copyOf(parent, grown);
+        Arrays.fill(dist, old, grown, UNREACHABLE);
+        Arrays.fill(parent, old, grown, NONE);
+        mark = Arrays.copyOf(mark, grown);
+        stack = new int[grown];
+        // The heap is always empty between changes, so it can be replaced
+        heap = new IndexedHeap(grown);
+    }
+
+    /**
+     * The edges leaving or entering one vertex, in no particular order
+     */
+    private static final class Row {
+        private int[] targets = new int[4];
+        private int[] costs = new int[4];
+        private int size;
+
+        /**
+         * Returns the cost of the edge to a vertex
+         *
+         * @param target the vertex id
+         * @return the cost, or -1 if there is no edge
+         */
+        int get(int target) {
+            for(int i = 0; i < size; i++) {
+                if(targets[i] == target) {
+                    return costs[i];
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Adds an edge to a vertex or changes its cost
+         *
+         * @param target the vertex id
+         * @param cost the cost
+         * @return the old cost, or -1 if there was no edge
+         */
+        int put(int target, int cost) {
+            for(int i = 0; i < size; i++) {
+                if(targets[i] == target) {
+                    int old = costs[i];
+                    costs[i] = cost;
+                    return old;
+                }
+            }
+            if(size == targets.length) {
+                targets = Arrays.copyOf(targets, size * 2);
+                costs = Arrays.copyOf(costs, size * 2);
+            }
+            targets[size] = target;
+            costs[size] = cost;
+            size++;
+            return -1;
+        }
+
+        /**
+         * Removes the edge to a vertex, moving the last edge into its place
+         *
+         * @param target the vertex id
+         * @return the old cost, or -1 if there was no edge
+         */
+        int remove(int target) {
+            for(int i = 0; i < size; i++) {
+                if(targets[i] == target) {
+                    int old = costs[i];
+                    size--;
+                    targets[i] = targets[size];
+                    costs[i] = costs[size];
+                    return old;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -33,6 +33,17 @@ public class Graph<E> {
         this.directional = directional;
     }
 
+    /**
+     * Creates a new graph around an already built map of edges. The map is used as is
+     *
+     * @param directional true if the graph should be directional
+     * @param map the edges leaving each vertex, mapped to their cost
+     */
+    Graph(boolean directional, Map<E, Map<E, Integer>> map) {
+        this.map = map;
+        this.directional = directional;
+    }
+
     /**
      * Adds a vertex to the graph if it is not already in the graph
      *
@@ -58,9 +69,19 @@ public class Graph<E> {
         // Operate only if the vertex is in the graph
         if(map.containsKey(e)) {
             // Remove all edges associated with the vertex
-            Set<E> connected = map.get(e).keySet();
-            for(E neighbor : connected) {
-                map.get(neighbor).remove(e);
+            if(directional) {
+                // Edges into the vertex are only stored by their source, so every vertex has to be checked
+                for(Map<E, Integer> connected : map.values()) {
+                    connected.remove(e);
+                }
+            } else {
+                Set<E> connected = map.get(e).keySet();
+                for(E neighbor : connected) {
+                    // Skip a self loop, which would change the set being walked
+                    if(!neighbor.equals(e)) {
+                        map.get(neighbor).remove(e);
+                    }
+                }
             }
             // Remove the vertex from the map
             map.remove(e);
@@ -111,6 +132,26 @@ public class Graph<E> {
         }
     }
 
+    /**
+     * Removes an edge from the graph
+     *
+     * @param from the source vertex
+     * @param to the destination vertex
+     * @return true if the edge was removed
+     */
+    public boolean removeEdge(E from, E to) {
+        // If either vertex isn't in the graph, error out
+        if(!map.containsKey(from) || !map.containsKey(to)) {
+            throw new IllegalArgumentException("Edges must be removed between vertices that are in the graph");
+        }
+        boolean removed = map.get(from).remove(to) != null;
+        // Remove reverse directional edge
+        if(!directional) {
+            map.get(to).remove(from);
+        }
+        return removed;
+    }
+
     /**
      * Returns the cost to travel along the edge between the two vertices
      *
@@ -184,6 +225,39 @@ public class Graph<E> {
         return map.keySet();
     }
 
+    /**
+     * Creates an immutable compact copy of the graph. Later changes to this graph are not reflected in the copy
+     *
+     * @return a compact copy of the graph
+     */
+    @SuppressWarnings("unchecked")
+    public CompactGraph<E> freeze() {
+        int n = map.size();
+        E[] vertices = (E[]) new Object[n];
+        Map<E, Integer> ids = new HashMap<>(n * 4 / 3 + 1);
+        int[] offsets = new int[n + 1];
+        // Intern the vertices and count the edges leaving each one
+        int id = 0;
+        for(Map.Entry<E, Map<E, Integer>> entry : map.entrySet()) {
+            vertices[id] = entry.getKey();
+            ids.put(entry.getKey(), id);
+            offsets[id + 1] = offsets[id] + entry.getValue().size();
+            id++;
+        }
+        // Lay the edges out row by row
+        int[] targets = new int[offsets[n]];
+        int[] costs = new int[offsets[n]];
+        int edge = 0;
+        for(Map<E, Integer> connected : map.values()) {
+            for(Map.Entry<E, Integer> entry : connected.entrySet()) {
+                targets[edge] = ids.get(entry.getKey());
+                costs[edge] = entry.getValue();
+                edge++;
+            }
+        }
+        return new CompactGraph<>(directional, vertices, ids, offsets, targets, costs);
+    }
+
     /**
      * Prints out the graph to the console
      */
@@ -0,0 +1,360 @@
+package com.foley.util.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Builds graphs from edges added in bulk. Vertices are interned to dense ids as they are added and edges are buffered
+ * in primitive arrays, then build() buckets the edges by source, sorts and dedupes every row in parallel and lays the
+ * rows out as a compact graph. As with Graph.addEdge, adding an edge that was already added replaces its cost, and
+ * each non directional edge is stored in both directions
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ * @param <E> The type of the graph
+ */
+public class GraphBuilder<E> {
+    // Vertices per task when sorting rows
+    private static final int ROWS_PER_TASK = 4096;
+
+    private final boolean directional;
+    private final ForkJoinPool pool;
+    private final List<E> vertices;
+    private final Map<E, Integer> ids;
+    private int[] sources;
+    private int[] targets;
+    private int[] costs;
+    private int edges;
+
+    /**
+     * Creates a new builder for a non directional graph
+     */
+    public GraphBuilder() {
+        this(false);
+    }
+
+    /**
+     * Creates a new builder
+     *
+     * @param directional true if the graph should be directional
+     */
+    public GraphBuilder(boolean directional) {
+        this(directional, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new builder
+     *
+     * @param directional true if the graph should be directional
+     * @param pool the pool to sort rows on
+     */
+    public GraphBuilder(boolean directional, ForkJoinPool pool) {
+        this.directional = directional;
+        this.pool = pool;
+        this.vertices = new ArrayList<>();
+        this.ids = new HashMap<>();
+        this.sources = new int[16];
+        this.targets = new int[16];
+        this.costs = new int[16];
+        this.edges = 0;
+    }
+
+    /**
+     * Adds a vertex if it has not already been added
+     *
+     * @param e the vertex
+     * @return the id of the vertex
+     */
+    public int addVertex(E e) {
+        Integer id = ids.get(e);
+        if(id == null) {
+            id = vertices.size();
+            ids.put(e, id);
+            vertices.add(e);
+        }
+        return id;
+    }
+
+    /**
+     * Adds every vertex in a collection that has not already been added
+     *
+     * @param es the vertices
+     * @return this builder
+     */
+    public GraphBuilder<E> addVertices(Collection<? extends E> es) {
+        for(E e : es) {
+            addVertex(e);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the id of a vertex
+     *
+     * @param e the vertex
+     * @return the id of the vertex, or -1 if it has not been added
+     */
+    public int getId(E e) {
+        Integer id = ids.get(e);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the number of vertices added
+     *
+     * @return the number of vertices
+     */
+    public int vertexCount() {
+        return vertices.size();
+    }
+
+    /**
+     * Returns the number of edges added, counting repeats
+     *
+     * @return the number of edges added
+     */
+    public int edgeCount() {
+        return edges;
+    }
+
+    /**
+     * Adds an edge between two vertices that have been added
+     *
+     * @param from the source vertex
+     * @param to the destination vertex
+     * @param cost the cost to travel along the edge
+     * @return this builder
+     */
+    public GraphBuilder<E> addEdge(E from, E to, int cost) {
+        int f = getId(from);
+        int t = getId(to);
+        // If either vertex isn't in the graph, error out
+        if(f < 0 || t < 0) {
+            throw new IllegalArgumentException("Edges must be added between vertices that are in the graph");
+        }
+        ensureCapacity(edges + 1);
+        sources[edges] = f;
+        targets[edges] = t;
+        costs[edges] = cost;
+        edges++;
+        return this;
+    }
+
+    /**
+     * Adds edges between vertex ids, each with a cost of 1
+     *
+     * @param from the source vertex id of each edge
+     * @param to the destination vertex id of each edge
+     * @return this builder
+     */
+    public GraphBuilder<E> addEdges(int[] from, int[] to) {
+        return addEdges(from, to, null);
+    }
+
+    /**
+     * Adds edges between vertex ids. The arrays are copied
+     *
+     * @param from the source vertex id of each edge
+     * @param to the destination vertex id of each edge
+     * @param cost the cost of each edge, or null for a cost of 1
+     * @return this builder
+     */
+    public GraphBuilder<E> addEdges(int[] from, int[] to, int[] cost) {
+        if(from.length != to.length || (cost != null && cost.length != from.length)) {
+            throw new IllegalArgumentException("Edge arrays must all be the same length");
+        }
+        int n = vertices.size();
+        for(int i = 0; i < from.length; i++) {
+            // If either vertex isn't in the graph, error out
+            if(from[i] < 0 || from[i] >= n || to[i] < 0 || to[i] >= n) {
+                throw new IllegalArgumentException("Edges must be added between vertices that are in the graph");
+            }
+        }
+        ensureCapacity(edges + from.length);
+        System.arraycopy(from, 0, sources, edges, from.length);
+        System.arraycopy(to, 0, targets, edges, to.length);
+        if(cost == null) {
+            Arrays.fill(costs, edges, edges + from.length, 1);
+        } else {
+            System.arraycopy(cost, 0, costs, edges, cost.length);
+        }
+        edges += from.length;
+        return this;
+    }
+
+    /**
+     * Adds an edge for every item of a stream, adding its vertices if needed. Items are added in encounter order, so a
+     * later item replaces the cost of an earlier one with the same vertices
+     *
+     * @param items the items
+     * @param from gets the source vertex of an item
+     * @param to gets the destination vertex of an item
+     * @param cost gets the cost of an item
+     * @param <T> The type of the items
+     * @return this builder
+     */
+    public <T> GraphBuilder<E> addEdges(Stream<T> items, Function<? super T, ? extends E> from, Function<? super T, ? extends E> to,
+                                        ToIntFunction<? super T> cost) {
+        items.forEachOrdered(item -> {
+            int f = addVertex(from.apply(item));
+            int t = addVertex(to.apply(item));
+            ensureCapacity(edges + 1);
+            sources[edges] = f;
+            targets[edges] = t;
+            costs[edges] = cost.applyAsInt(item);
+            edges++;
+        });
+        return this;
+    }
+
+    /**
+     * Builds a compact graph of the vertices and edges added so far. The builder can keep being used afterwards
+     *
+     * @return the compact graph
+     */
+    @SuppressWarnings("unchecked")
+    public CompactGraph<E> build() {
+        int n = vertices.size();
+        int stored = directional ? edges : edges * 2;
+        // Error out if the edges do not fit in the arrays of a compact graph
+        if(stored < 0 || stored > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Graph has too many edges to build");
+        }
+
+        // Bucket the edges by source, keeping the order they were added in within each row
+        int[] rowStart = new int[n + 1];
+        for(int i = 0; i < edges; i++) {
+            rowStart[sources[i] + 1]++;
+            if(!directional) {
+                rowStart[targets[i] + 1]++;
+            }
+        }
+        for(int v = 0; v < n; v++) {
+            rowStart[v + 1] += rowStart[v];
+        }
+        int[] next = Arrays.copyOf(rowStart, n);
+        int[] rowTargets = new int[stored];
+        int[] rowCosts = new int[stored];
+        for(int i = 0; i < edges; i++) {
+            int slot = next[sources[i]]++;
+            rowTargets[slot] = targets[i];
+            rowCosts[slot] = costs[i];
+            if(!directional) {
+                slot = next[targets[i]]++;
+                rowTargets[slot] = sources[i];
+                rowCosts[slot] = costs[i];
+            }
+        }
+
+        // Sort and dedupe each row in place, recording how many edges it keeps
+        int[] kept = new int[n];
+        pool.invoke(new RangeTask(0, n, ROWS_PER_TASK, (start, end) -> {
+            long[] keys = new long[0];
+            int[] scratch = new int[0];
+            for(int v = start; v < end; v++) {
+                int from = rowStart[v];
+                int degree = rowStart[v + 1] - from;
+                if(keys.length < degree) {
+                    keys = new long[Math.max(degree, keys.length * 2)];
+                    scratch = new int[keys.length];
+                }
+                kept[v] = sortRow(rowTargets, rowCosts, from, degree, keys, scratch);
+            }
+        }));
+
+        // Lay the kept part of each row out back to back
+        int[] offsets = new int[n + 1];
+        for(int v = 0; v < n; v++) {
+            offsets[v + 1] = offsets[v] + kept[v];
+        }
+        int[] finalTargets = new int[offsets[n]];
+        int[] finalCosts = new int[offsets[n]];
+        pool.invoke(new RangeTask(0, n, ROWS_PER_TASK, (start, end) -> {
+            for(int v = start; v < end; v++) {
+                System.arraycopy(rowTargets, rowStart[v], finalTargets, offsets[v], kept[v]);
+                System.arraycopy(rowCosts, rowStart[v], finalCosts, offsets[v], kept[v]);
+            }
+        }));
+
+        E[] interned = (E[]) vertices.toArray();
+        return new CompactGraph<>(directional, interned, new HashMap<>(ids), offsets, finalTargets, finalCosts);
+    }
+
+    /**
+     * Builds a graph of the vertices and edges added so far, sizing the edge map of every vertex up front
+     *
+     * @return the graph
+     */
+    public Graph<E> buildGraph() {
+        CompactGraph<E> g = build();
+        Map<E, Map<E, Integer>> map = new HashMap<>(g.size() * 4 / 3 + 1);
+        for(int v = 0; v < g.size(); v++) {
+            Map<E, Integer> connected = new HashMap<>(g.getDegree(v) * 4 / 3 + 1);
+            for(int i = g.getEdgeStart(v); i < g.getEdgeEnd(v); i++) {
+                connected.put(g.getVertex(g.getTarget(i)), g.getCost(i));
+            }
+            map.put(g.getVertex(v), connected);
+        }
+        return new Graph<>(directional, map);
+    }
+
+    /**
+     * Sorts a row by target and drops repeated targets, keeping the cost of the one added last
+     *
+     * @param rowTargets the targets of every row
+     * @param rowCosts the costs of every row
+     * @param from the index of the first edge of the row
+     * @param degree the number of edges in the row
+     * @param keys scratch space of at least degree entries
+     * @param scratch scratch space of at least degree entries
+     * @return the number of edges kept, which now start at from
+     */
+    private static int sortRow(int[] rowTargets, int[] rowCosts, int from, int degree, long[] keys, int[] scratch) {
+        // Sort by target and then by the order the edges were added in
+        for(int i = 0; i < degree; i++) {
+            keys[i] = (long) rowTargets[from + i] << 32 | i;
+        }
+        Arrays.sort(keys, 0, degree);
+        for(int i = 0; i < degree; i++) {
+            scratch[i] = rowCosts[from + (int) keys[i]];
+        }
+        int count = 0;
+        for(int i = 0; i < degree; i++) {
+            int target = (int) (keys[i] >>> 32);
+            // The last of a run of equal targets was added last, so it wins
+            if(i + 1 < degree && (int) (keys[i + 1] >>> 32) == target) {
+                continue;
+            }
+            rowTargets[from + count] = target;
+            rowCosts[from + count] = scratch[i];
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Grows the edge arrays to hold at least a number of edges
+     *
+     * @param capacity the number of edges
+     */
+    private void ensureCapacity(int capacity) {
+        // Error out if the edge count overflowed
+        if(capacity < 0) {
+            throw new IllegalArgumentException("Graph has too many edges to build");
+        }
+        if(capacity > sources.length) {
+            int grown = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(capacity, sources.length * 2L));
+            sources = Arrays.copyOf(sources, grown);
+            targets = Arrays.copyOf(targets, grown);
+            costs = Arrays.copyOf(costs, grown);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.foley.util.graph;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Stores compact graphs in files and maps them back into memory. A file holds a header, the vertex table and then the
+ * offset, target and cost arrays of the graph. Loading decodes the vertices but maps the edge arrays straight from the
+ * file, so they are never copied onto the heap: opening a graph takes one sequential pass over its vertices, offsets
+ * and targets to check them, and the pages of the file are shared read only with any other process that maps it
+ *
+ * <p>The header is 32 little endian bytes: a magic number, the format version, flags (bit 0 set for a directional
+ * graph), the vertex count, the edge count, a reserved int and the length of the vertex table as a long. The vertex
+ * table follows, written by a VertexCodec and padded to a multiple of four bytes, then the little endian int arrays
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public final class GraphFile {
+    // Identifies the format, the ASCII bytes "CSRG" in file order
+    private static final int MAGIC = 0x47525343;
+    private static final int VERSION = 1;
+    private static final int DIRECTIONAL = 1;
+    private static final int HEADER = 32;
+    private static final int CHUNK = 1 << 16;
+
+    private GraphFile() {
+    }
+
+    /**
+     * Writes a graph to a file, replacing anything already there
+     *
+     * @param g the graph
+     * @param path the file
+     * @param codec the codec for the vertices
+     * @param <E> The type of the graph
+     * @throws IOException if the file cannot be written
+     */
+    public static <E> void write(CompactGraph<E> g, Path path, VertexCodec<E> codec) throws IOException {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            // Write the vertex table after room for the header, whose table length is only known afterwards
+            channel.position(HEADER);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), CHUNK));
+            for(E vertex : g.getVertices()) {
+                codec.encode(vertex, out);
+            }
+            out.flush();
+            long vertexBytes = channel.position() - HEADER;
+            channel.position(HEADER + pad(vertexBytes));
+
+            int n = g.size();
+            int m = g.edgeCount();
+            ByteBuffer chunk = ByteBuffer.allocate(CHUNK).order(ByteOrder.LITTLE_ENDIAN);
+            for(int v = 0; v <= n; v++) {
+                putInt(channel, chunk, v < n ? g.getEdgeStart(v) : m);
+            }
+            for(int i = 0; i < m; i++) {
+                putInt(channel, chunk, g.getTarget(i));
+            }
+            for(int i = 0; i < m; i++) {
+                putInt(channel, chunk, g.getCost(i));
+            }
+            flush(channel, chunk);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(g.isDirectional() ? DIRECTIONAL : 0).putInt(n).putInt(m).putInt(0).putLong(vertexBytes);
+            header.flip();
+            while(header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+    }
+
+    /**
+     * Maps a graph file into memory. The edge arrays stay backed by the file, which must not be changed while the
+     * graph is in use. The header, vertex table, edge offsets and edge targets are checked as the file is loaded, so
+     * every vertex and edge of the graph is valid. Costs can be any int, so they are not checked
+     *
+     * @param path the file
+     * @param codec the codec for the vertices
+     * @param <E> The type of the graph
+     * @return the graph
+     * @throws IOException if the file cannot be read or does not hold a graph
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> CompactGraph<E> map(Path path, VertexCodec<E> codec) throws IOException {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // Error out if the file does not hold a graph this version can read
+            if(channel.size() < HEADER) {
+                throw new IOException("File does not hold a graph: " + path);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+            while(header.hasRemaining()) {
+                channel.read(header, header.position());
+            }
+            if(header.getInt(0) != MAGIC) {
+                throw new IOException("File does not hold a graph: " + path);
+            }
+            if(header.getInt(4) != VERSION) {
+                throw new IOException("Unsupported graph file version " + header.getInt(4) + ": " + path);
+            }
+            boolean directional = (header.getInt(8) & DIRECTIONAL) != 0;
+            int n = header.getInt(12);
+            int m = header.getInt(16);
+            long vertexBytes = header.getLong(24);
+            long offsetsAt = HEADER + pad(vertexBytes);
+            long targetsAt = offsetsAt + 4L * (n + 1);
+            long costsAt = targetsAt + 4L * m;
+            if(n < 0 || m < 0 || vertexBytes < 0 || costsAt + 4L * m != channel.size()) {
+                throw new IOException("Graph file is truncated or corrupt: " + path);
+            }
+
+            // Decode the vertex table
+            E[] vertices = (E[]) new Object[n];
+            ByteBuffer table = map(channel, HEADER, vertexBytes, path);
+            try {
+                for(int i = 0; i < n; i++) {
+                    vertices[i] = codec.decode(table);
+                }
+            } catch(BufferUnderflowException | BufferOverflowException e) {
+                throw new IOException("Graph file vertex table does not match its codec: " + path, e);
+            }
+            if(table.hasRemaining()) {
+                throw new IOException("Graph file vertex table does not match its codec: " + path);
+            }
+            Map<E, Integer> ids = CompactGraph.indexVertices(vertices);
+            if(ids.size() != n) {
+                throw new IOException("Graph file holds the same vertex more than once: " + path);
+            }
+
+            IntBuffer offsets = map(channel, offsetsAt, 4L * (n + 1), path).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            IntBuffer targets = map(channel, targetsAt, 4L * m, path).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            IntBuffer costs = map(channel, costsAt, 4L * m, path).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            // Check that every row of edges lies inside the edge arrays and no row ends before it starts
+            if(offsets.get(0) != 0 || offsets.get(n) != m) {
+                throw new IOException("Graph file edge offsets are corrupt: " + path);
+            }
+            for(int v = 0; v < n; v++) {
+                if(offsets.get(v) > offsets.get(v + 1)) {
+                    throw new IOException("Graph file edge offsets are corrupt: " + path);
+                }
+            }
+            // Check every target here so a corrupt one fails the load rather than a later search
+            for(int i = 0; i < m; i++) {
+                int target = targets.get(i);
+                if(target < 0 || target >= n) {
+                    throw new IOException("Graph file edge targets are corrupt: " + path);
+                }
+            }
+            return new CompactGraph<>(directional, vertices, ids, offsets, targets, costs);
+        }
+    }
+
+    /**
+     * Maps a read only section of a file
+     *
+     * @param channel the file
+     * @param position the offset of the section
+     * @param size the length of the section
+     * @param path the file, for error messages
+     * @return the mapped section
+     * @throws IOException if the section cannot be mapped
+     */
+    private static ByteBuffer map(FileChannel channel, long position, long size, Path path) throws IOException {
+        // Error out if a section is larger than a buffer can index
+        if(size > Integer.MAX_VALUE) {
+            throw new IOException("Graph file section is too large to map: " + path);
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+    }
+
+    /**
+     * Rounds a length up to a multiple of four bytes
+     *
+     * @param length the length
+     * @return the padded length
+     */
+    private static long pad(long length) {
+        return (length + 3) & ~3L;
+    }
+
+    /**
+     * Adds an int to a chunk, writing the chunk out first if it is full
+     *
+     * @param channel the file
+     * @param chunk the chunk
+     * @param value the int
+     * @throws IOException if the file cannot be written
+     */
+    private static void putInt(FileChannel channel, ByteBuffer chunk, int value) throws IOException {
+        if(!chunk.hasRemaining()) {
+            flush(channel, chunk);
+        }
+        chunk.putInt(value);
+    }
+
+    /**
+     * Writes out a chunk and empties it
+     *
+     * @param channel the file
+     * @param chunk the chunk
+     * @throws IOException if the file cannot be written
+     */
+    private static void flush(FileChannel channel, ByteBuffer chunk) throws IOException {
+        chunk.flip();
+        while(chunk.hasRemaining()) {
+            channel.write(chunk);
+        }
+        chunk.clear();
+    }
+}
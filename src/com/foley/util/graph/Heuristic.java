@@ -0,0 +1,20 @@
+package com.foley.util.graph;
+
+/**
+ * Estimates the remaining cost between two vertices. To find shortest paths the estimate must be admissible, meaning
+ * it never exceeds the true cost of the cheapest path between the vertices
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ * @param <E> The type of the graph
+ */
+public interface Heuristic<E> {
+    /**
+     * Estimates the cost to travel from one vertex to another
+     *
+     * @param from the source vertex
+     * @param to the destination vertex
+     * @return the estimated cost to travel between the vertices
+     */
+    int estimate(E from, E to);
+}
@@ -0,0 +1,186 @@
+package com.foley.util.graph;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min heap of dense integer ids ordered by an integer key. Each id can be in the heap at most once, and its key
+ * can be lowered in place, so searches never need to offer duplicate entries
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class IndexedHeap {
+    private int[] heap;
+    private int[] keys;
+    private int[] pos;
+    private int size;
+
+    /**
+     * Creates a new heap able to hold the ids 0 (inclusive) through capacity (exclusive)
+     *
+     * @param capacity the number of ids the heap can hold
+     */
+    public IndexedHeap(int capacity) {
+        heap = new int[capacity];
+        keys = new int[capacity];
+        pos = new int[capacity];
+        Arrays.fill(pos, -1);
+        size = 0;
+    }
+
+    /**
+     * Returns true if the heap is empty
+     *
+     * @return true if the heap is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of ids in the heap
+     *
+     * @return the number of ids in the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the id is currently in the heap
+     *
+     * @param id the id
+     * @return true if the id is in the heap
+     */
+    public boolean contains(int id) {
+        return pos[id] > -1;
+    }
+
+    /**
+     * Returns the key of an id that is currently in the heap
+     *
+     * @param id the id
+     * @return the key of the id
+     */
+    public int getKey(int id) {
+        return keys[id];
+    }
+
+    /**
+     * Inserts the id into the heap, or lowers its key if it is already in the heap. A key that is not lower than the
+     * current key of the id is ignored
+     *
+     * @param id the id
+     * @param key the key
+     */
+    public void offer(int id, int key) {
+        int i = pos[id];
+        if(i < 0) {
+            // Insert at the bottom of the heap
+            i = size++;
+            heap[i] = id;
+            pos[id] = i;
+            keys[id] = key;
+            siftUp(i);
+        } else if(key < keys[id]) {
+            // Decrease key in place
+            keys[id] = key;
+            siftUp(i);
+        }
+    }
+
+    /**
+     * Returns the id with the lowest key without removing it
+     *
+     * @return the id with the lowest key
+     */
+    public int peek() {
+        if(size == 0) {
+            throw new NoSuchElementException("Cannot peek into an empty heap");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Removes and returns the id with the lowest key
+     *
+     * @return the id with the lowest key
+     */
+    public int poll() {
+        if(size == 0) {
+            throw new NoSuchElementException("Cannot poll from an empty heap");
+        }
+        int top = heap[0];
+        pos[top] = -1;
+        // Move the last entry to the root and restore the heap property
+        if(--size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            pos[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * Removes all ids from the heap. Only the ids still in the heap are touched
+     */
+    public void clear() {
+        for(int i = 0; i < size; i++) {
+            pos[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    /**
+     * Moves the entry at the position towards the root until the heap property holds
+     *
+     * @param i the position in the heap
+     */
+    private void siftUp(int i) {
+        int id = heap[i];
+        int key = keys[id];
+        while(i > 0) {
+            int parent = (i - 1) >>> 1;
+            int parentId = heap[parent];
+            if(keys[parentId] <= key) {
+                break;
+            }
+            heap[i] = parentId;
+            pos[parentId] = i;
+            i = parent;
+        }
+        heap[i] = id;
+        pos[id] = i;
+    }
+
+    /**
+     * Moves the entry at the position towards the leaves until the heap property holds
+     *
+     * @param i the position in the heap
+     */
+    private void siftDown(int i) {
+        int id = heap[i];
+        int key = keys[id];
+        int half = size >>> 1;
+        while(i < half) {
+            int child = 2 * i + 1;
+            int childId = heap[child];
+            int right = child + 1;
+            // Pick the smaller of the two children
+            if(right < size && keys[heap[right]] < keys[childId]) {
+                child = right;
+                childId = heap[right];
+            }
+            if(key <= keys[childId]) {
+                break;
+            }
+            heap[i] = childId;
+            pos[childId] = i;
+            i = child;
+        }
+        heap[i] = id;
+        pos[id] = i;
+    }
+}
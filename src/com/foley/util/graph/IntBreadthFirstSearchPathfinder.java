@@ -0,0 +1,64 @@
+package com.foley.util.graph;
+
+/**
+ * Finds paths in an int graph utilizing Breadth First Search Algorithm
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class IntBreadthFirstSearchPathfinder extends IntPathfinder {
+    /**
+     * Creates a new pathfinder utilizing the breadth first search algorithm
+     *
+     * @param g the graph to search
+     */
+    public IntBreadthFirstSearchPathfinder(IntGraph g) {
+        super(g);
+    }
+
+    @Override
+    /**
+     * Searches the graph from a source vertex to a target vertex
+     *
+     * @param from the vertex to search from
+     * @param to the vertex to search to
+     */
+    public void searchGraphTo(int from, int to) {
+        beginSearch(from);
+        // Prepare the search space. Each vertex is queued at most once
+        int[] q = state.buffer(state.size());
+        int head = 0;
+        int tail = 0;
+        state.visit(from);
+        q[tail++] = from;
+
+        // Search while there are vertices in the queue
+        while(head < tail) {
+            int current = q[head++];
+
+            // Early exit
+            if(current == to) {
+                return;
+            }
+
+            // Process the neighbors for this vertex
+            int score = state.getScore(current);
+            for(int i = 0, degree = g.getDegree(current); i < degree; i++) {
+                int next = g.getNeighbor(current, i);
+                int newScore = score + g.getNeighborCost(current, i);
+                // Process neighbor if it has not been visited
+                if(!state.isVisited(next)) {
+                    state.setScore(next, newScore);
+                    state.setParent(next, current);
+                    state.visit(next);
+                    q[tail++] = next;
+                } else {
+                    if(newScore < state.getScore(next)) {
+                        state.setScore(next, newScore);
+                        state.setParent(next, current);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.foley.util.graph;
+
+/**
+ * Finds paths in an int graph utilizing Depth First Search Algorithm
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class IntDepthFirstSearchPathfinder extends IntPathfinder {
+    /**
+     * Creates a new pathfinder utilizing the depth first search algorithm
+     *
+     * @param g the graph to search
+     */
+    public IntDepthFirstSearchPathfinder(IntGraph g) {
+        super(g);
+    }
+
+    @Override
+    /**
+     * Searches the graph from a source vertex to a target vertex
+     *
+     * @param from the vertex to search from
+     * @param to the vertex to search to
+     */
+    public void searchGraphTo(int from, int to) {
+        beginSearch(from);
+        // Prepare the search space
+        int[] s = state.buffer(state.size());
+        int top = 0;
+        s[top++] = from;
+
+        // Search while there are still vertices on the stack
+        while(top > 0) {
+            int current = s[--top];
+            if(!state.isVisited(current)) {
+                state.visit(current);
+
+                // Process neighbors
+                int score = state.getScore(current);
+                for(int i = 0, degree = g.getDegree(current); i < degree; i++) {
+                    int next = g.getNeighbor(current, i);
+                    int newScore = score + g.getNeighborCost(current, i);
+                    // Add to stack if it hasn't been visited
+                    if(!state.isVisited(next)) {
+                        state.setScore(next, newScore);
+                        state.setParent(next, current);
+                        // Grow the stack if needed, a vertex may be pushed once per incoming edge
+                        if(top == s.length) {
+                            s = state.growBuffer();
+                        }
+                        s[top++] = next;
+                    } else {
+                        if(newScore < state.getScore(next)) {
+                            state.setScore(next, newScore);
+                            state.setParent(next, current);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.foley.util.graph;
+
+/**
+ * Finds paths in an int graph utilizing Dijkstra's Algorithm
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class IntDijkstraPathfinder extends IntPathfinder {
+    /**
+     * Creates a new pathfinder utilizing dijkstra's algorithm
+     *
+     * @param g the graph to search
+     */
+    public IntDijkstraPathfinder(IntGraph g) {
+        super(g);
+    }
+
+    @Override
+    /**
+     * Searches the graph from a source vertex to a target vertex
+     *
+     * @param from the vertex to search from
+     * @param to the vertex to search to
+     */
+    public void searchGraphTo(int from, int to) {
+        beginSearch(from);
+        // Setup search space ordered by the tentative distance of each vertex
+        IndexedHeap q = state.heap();
+        q.offer(from, 0);
+
+        // Continue to process until queue is empty
+        while(!q.isEmpty()) {
+            // Poll the vertex with the lowest tentative distance
+            int current = q.poll();
+            state.visit(current);
+
+            // Early exit
+            if(current == to) {
+                return;
+            }
+
+            // Process all neighbors
+            int score = state.getScore(current);
+            for(int i = 0, degree = g.getDegree(current); i < degree; i++) {
+                int next = g.getNeighbor(current, i);
+                // Settled vertices already hold their final score
+                if(state.isVisited(next)) {
+                    continue;
+                }
+                int newScore = score + g.getNeighborCost(current, i);
+                // Update neighbor if new score is better than the old score
+                if(newScore < state.getScore(next)) {
+                    state.setScore(next, newScore);
+                    state.setParent(next, current);
+                    q.offer(next, newScore);
+                }
+            }
+        }
+    }
+}
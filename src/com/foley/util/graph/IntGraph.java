@@ -0,0 +1,339 @@
+package com.foley.util.graph;
+
+import java.util.Arrays;
+
+/**
+ * A set of int vertices and the edges connecting them, stored without boxing. Vertices are non negative ints, and
+ * storage grows with the largest vertex added
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class IntGraph {
+    private static final int[] EMPTY = new int[0];
+
+    private boolean directional;
+    private boolean[] present;
+    private int[][] targets;
+    private int[][] costs;
+    private int[] degree;
+    private int size;
+
+    /**
+     * Creates a new non directional graph
+     */
+    public IntGraph() {
+        this(false);
+    }
+
+    /**
+     * Creates a new graph
+     *
+     * @param directional true if the graph should be directional
+     */
+    public IntGraph(boolean directional) {
+        this(directional, 16);
+    }
+
+    /**
+     * Creates a new graph
+     *
+     * @param directional true if the graph should be directional
+     * @param capacity the expected largest vertex plus one
+     */
+    public IntGraph(boolean directional, int capacity) {
+        if(capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less than 0");
+        }
+        this.directional = directional;
+        present = new boolean[capacity];
+        targets = new int[capacity][];
+        costs = new int[capacity][];
+        degree = new int[capacity];
+        size = 0;
+    }
+
+    /**
+     * Adds a vertex to the graph if it is not already in the graph
+     *
+     * @param v the vertex
+     * @return true if the vertex was added
+     */
+    public boolean addVertex(int v) {
+        if(v < 0) {
+            throw new IllegalArgumentException("Vertices cannot be less than 0");
+        }
+        ensureCapacity(v + 1);
+        // Only add the vertex if it is not already in the graph
+        if(!present[v]) {
+            present[v] = true;
+            targets[v] = EMPTY;
+            costs[v] = EMPTY;
+            degree[v] = 0;
+            size++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes a vertex from the graph
+     *
+     * @param v the vertex
+     * @return true if the vertex was removed
+     */
+    public boolean removeVertex(int v) {
+        // Operate only if the vertex is in the graph
+        if(containsVertex(v)) {
+            // Remove all edges leading to the vertex. Only its neighbors can lead to it in a non directional graph
+            if(!directional) {
+                for(int i = 0; i < degree[v]; i++) {
+                    if(targets[v][i] != v) {
+                        removeEdgeInternal(targets[v][i], v);
+                    }
+                }
+            } else {
+                for(int u = 0; u < present.length; u++) {
+                    if(present[u] && u != v) {
+                        removeEdgeInternal(u, v);
+                    }
+                }
+            }
+            present[v] = false;
+            targets[v] = null;
+            costs[v] = null;
+            degree[v] = 0;
+            size--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Adds an edge to the graph
+     *
+     * @param from the source vertex
+     * @param to the destination vertex
+     */
+    public void addEdge(int from, int to) {
+        // Add the edge with a cost of 1
+        addEdge(from, to, 1);
+    }
+
+    /**
+     * Adds an edge to the graph
+     *
+     * @param from the source vertex
+     * @param to the destination vertex
+     * @param cost the cost to travel along the edge
+     */
+    public void addEdge(int from, int to, int cost) {
+        // If either vertex isn't in the graph, error out
+        if(!containsVertex(from) || !containsVertex(to)) {
+            throw new IllegalArgumentException("Edges must be added between vertices that are in the graph");
+        }
+        addEdgeInternal(from, to, cost);
+        // Add reverse directional edge
+        if(!directional) {
+            addEdgeInternal(to, from, cost);
+        }
+    }
+
+    /**
+     * Adds an edge to the graph, replacing the cost if the edge already exists
+     *
+     * @param from the source vertex
+     * @param to the destination vertex
+     * @param cost the cost to travel along the edge
+     */
+    private void addEdgeInternal(int from, int to, int cost) {
+        int[] t = targets[from];
+        int d = degree[from];
+        for(int i = 0; i < d; i++) {
+            if(t[i] == to) {
+                costs[from][i] = cost;
+                return;
+            }
+        }
+        // Grow the row if it is full
+        if(d == t.length) {
+            int length = Math.max(4, d * 2);
+            targets[from] = Arrays.copyOf(t, length);
+            costs[from] = Arrays.copyOf(costs[from], length);
+        }
+        targets[from][d] = to;
+        costs[from][d] = cost;
+        degree[from] = d + 1;
+    }
+
+    /**
+     * Removes the edge from one vertex to another if it exists
+     *
+     * @param from the source vertex
+     * @param to the destination vertex
+     */
+    private void removeEdgeInternal(int from, int to) {
+        int[] t = targets[from];
+        int d = degree[from];
+        for(int i = 0; i < d; i++) {
+            if(t[i] == to) {
+                // Shift the remaining edges down to keep neighbor order stable
+                System.arraycopy(t, i + 1, t, i, d - i - 1);
+                System.arraycopy(costs[from], i + 1, costs[from], i, d - i - 1);
+                degree[from] = d - 1;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the cost to travel along the edge between the two vertices
+     *
+     * @param from the source vertex
+     * @param to the destination vertex
+     * @return the cost to travel along the edge between the two vertices, or -1 if they are not adjacent
+     */
+    public int getEdgeCost(int from, int to) {
+        // If either vertex isn't in the graph, error out
+        if(!containsVertex(from) || !containsVertex(to)) {
+            throw new IllegalArgumentException("Cannot get cost for an edge between vertices that aren't in the graph");
+        }
+        int[] t = targets[from];
+        for(int i = 0; i < degree[from]; i++) {
+            if(t[i] == to) {
+                return costs[from][i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if the graph contains the vertex
+     *
+     * @param v the vertex
+     * @return true if the vertex is in the graph
+     */
+    public boolean containsVertex(int v) {
+        return v >= 0 && v < present.length && present[v];
+    }
+
+    /**
+     * Returns true if an edge exists between the two vertices
+     *
+     * @param from the source vertex
+     * @param to the destination vertex
+     * @return true if an edge is between the two vertices
+     */
+    public boolean areAdjacent(int from, int to) {
+        // If either vertex isn't in the graph, error out
+        if(!containsVertex(from) || !containsVertex(to)) {
+            throw new IllegalArgumentException("Vertices must be in the graph to test for adjacency");
+        }
+        return getEdgeCost(from, to) > -1;
+    }
+
+    /**
+     * Returns the number of edges leaving the vertex
+     *
+     * @param v the vertex
+     * @return the number of edges leaving the vertex, or 0 if the vertex is not in the graph
+     */
+    public int getDegree(int v) {
+        return containsVertex(v) ? degree[v] : 0;
+    }
+
+    /**
+     * Returns the vertex at the end of an edge leaving the vertex
+     *
+     * @param v the vertex
+     * @param i the index of the edge, less than getDegree(v)
+     * @return the vertex at the end of the edge
+     */
+    public int getNeighbor(int v, int i) {
+        return targets[v][i];
+    }
+
+    /**
+     * Returns the cost of an edge leaving the vertex
+     *
+     * @param v the vertex
+     * @param i the index of the edge, less than getDegree(v)
+     * @return the cost of the edge
+     */
+    public int getNeighborCost(int v, int i) {
+        return costs[v][i];
+    }
+
+    /**
+     * Returns the number of vertices in the graph
+     *
+     * @return the number of vertices in the graph
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns one more than the largest vertex the graph can currently hold
+     *
+     * @return one more than the largest vertex the graph can currently hold
+     */
+    public int capacity() {
+        return present.length;
+    }
+
+    /**
+     * Returns true if the graph is directional
+     *
+     * @return true if the graph is directional
+     */
+    public boolean isDirectional() {
+        return directional;
+    }
+
+    /**
+     * Grows the vertex storage to hold at least the given capacity
+     *
+     * @param capacity the required capacity
+     */
+    private void ensureCapacity(int capacity) {
+        if(capacity > present.length) {
+            int length = Math.max(capacity, present.length * 2);
+            present = Arrays.copyOf(present, length);
+            targets = Arrays.copyOf(targets, length);
+            costs = Arrays.copyOf(costs, length);
+            degree = Arrays.copyOf(degree, length);
+        }
+    }
+
+    /**
+     * Prints out the graph to the console
+     */
+    public void printGraph() {
+        System.out.println(toString());
+    }
+
+    @Override
+    /**
+     * Returns a string representation of the graph
+     *
+     * @return the string representation of the graph
+     */
+    public String toString() {
+        StringBuilder build = new StringBuilder();
+        build.append("Graph\n");
+        build.append("-------------------------------------------------------\n");
+        build.append("Node\t\t\tNeighbor\t\t\tCost\n");
+        for(int v = 0; v < present.length; v++) {
+            if(!present[v]) {
+                continue;
+            }
+            build.append(v);
+            for(int i = 0; i < degree[v]; i++) {
+                build.append("\t\t\t\t" + targets[v][i] + "\t\t\t\t\t" + costs[v][i] + "\n");
+            }
+        }
+        build.append("-------------------------------------------------------\n");
+        return build.toString();
+    }
+}
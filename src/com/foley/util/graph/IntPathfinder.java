@@ -0,0 +1,142 @@
+package com.foley.util.graph;
+
+/**
+ * Searches an int graph, keeping the search state in primitive arrays indexed by vertex. The state is reused by every
+ * search and grows when vertices are added to the graph
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public abstract class IntPathfinder implements IntSearchable {
+    /**
+     * Marks the absence of a vertex, such as the parent of the source vertex
+     */
+    public static final int NONE = SearchState.NONE;
+
+    protected IntGraph g;
+    protected SearchState state;
+
+    /**
+     * Creates a new pathfinder. The search state grows with the graph when a search begins, so vertices added after
+     * creation can be searched
+     *
+     * @param g the graph to search
+     */
+    public IntPathfinder(IntGraph g) {
+        this.g = g;
+        this.state = new SearchState(g.capacity());
+    }
+
+    @Override
+    /**
+     * Searches the graph from a source vertex to all other vertices
+     *
+     * @param from the vertex to search from
+     */
+    public void searchGraphFrom(int from) {
+        searchGraphTo(from, NONE);
+    }
+
+    /**
+     * Starts a new search from a source vertex, invalidating the results of the previous search
+     *
+     * @param from the vertex to search from
+     */
+    protected void beginSearch(int from) {
+        // Error out if source not found
+        if(!contains(from)) {
+            throw new IllegalArgumentException("Could not find source node based off of provided starting point");
+        }
+        // Grow the state if vertices were added beyond it, since any of them may be linked to the source
+        if(state.size() < g.capacity()) {
+            state = new SearchState(g.capacity());
+        }
+        state.reset();
+        state.setScore(from, 0);
+    }
+
+    /**
+     * Returns true if the vertex is in the graph and within the search state
+     *
+     * @param v the vertex
+     * @return true if the vertex can be searched
+     */
+    protected boolean contains(int v) {
+        return v < state.size() && g.containsVertex(v);
+    }
+
+    @Override
+    /**
+     * Returns the total cost to travel to a target vertex
+     *
+     * @param to the target vertex
+     * @return the total cost to travel to the target vertex
+     */
+    public int getPathCostTo(int to) {
+        // If the vertex exists, return the cost to get to the vertex
+        if(contains(to)) {
+            return state.getScore(to);
+        }
+        // A vertex added since the last search was not reached by it
+        if(g.containsVertex(to)) {
+            return Integer.MAX_VALUE;
+        }
+        return -1;
+    }
+
+    @Override
+    /**
+     * Returns the path of vertices that lead to the target vertex
+     *
+     * @param to the target vertex
+     * @return the path of vertices that lead to the target vertex, empty if it does not exist or was not reached
+     */
+    public int[] getPathTo(int to) {
+        // Return an empty path if the vertex does not exist or the search did not reach it
+        if(!contains(to) || state.getScore(to) == Integer.MAX_VALUE) {
+            return new int[0];
+        }
+        // Count the steps, then fill them in from the target back to the root
+        int length = 0;
+        for(int v = to; v != NONE; v = state.getParent(v)) {
+            length++;
+        }
+        int[] path = new int[length];
+        for(int v = to; v != NONE; v = state.getParent(v)) {
+            path[--length] = v;
+        }
+        return path;
+    }
+
+    @Override
+    /**
+     * Prints out the search results to the console
+     */
+    public void printSearch() {
+        System.out.println(toString());
+    }
+
+    /**
+     * Returns a string representation of the search
+     *
+     * @return the string representation of the search
+     */
+    public String toString() {
+        StringBuilder build = new StringBuilder();
+        build.append("Search Results\n");
+        build.append("-------------------------------------------------------\n");
+        build.append("Node\t\tCost\t\tPath\n");
+        for(int v = 0; v < state.size(); v++) {
+            if(!g.containsVertex(v)) {
+                continue;
+            }
+            build.append(v + "\t\t\t" + getPathCostTo(v) + "\t\t\t" + null);
+            for(int step : getPathTo(v)) {
+                build.append(" -> " + step);
+            }
+            build.append("\n");
+        }
+        build.append("-------------------------------------------------------\n");
+        return build.toString();
+    }
+}
@@ -0,0 +1,45 @@
+package com.foley.util.graph;
+
+/**
+ * Methods for searching int graphs and pulling the results without boxing
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public interface IntSearchable {
+    /**
+     * Searches the graph from a source vertex to all other vertices
+     *
+     * @param from the vertex to search from
+     */
+    void searchGraphFrom(int from);
+
+    /**
+     * Searches the graph from a source vertex to a target vertex
+     *
+     * @param from the vertex to search from
+     * @param to the vertex to search to
+     */
+    void searchGraphTo(int from, int to);
+
+    /**
+     * Returns the total cost to travel to a target vertex
+     *
+     * @param to the target vertex
+     * @return the total cost to travel to the target vertex
+     */
+    int getPathCostTo(int to);
+
+    /**
+     * Returns the path of vertices that lead to the target vertex
+     *
+     * @param to the target vertex
+     * @return the path of vertices that lead to the target vertex
+     */
+    int[] getPathTo(int to);
+
+    /**
+     * Prints out the search results to the console
+     */
+    void printSearch();
+}
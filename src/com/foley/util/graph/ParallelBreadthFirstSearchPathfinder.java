@@ -0,0 +1,246 @@
+package com.foley.util.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Finds paths in a graph utilizing a level synchronous Breadth First Search Algorithm that expands each level in
+ * parallel. Small levels are expanded top down from the frontier; once the frontier reaches a large share of the
+ * unexplored edges, levels are expanded bottom up by letting every unvisited vertex look for a parent in the frontier.
+ * Scores are the costs along the resulting breadth first search tree
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class ParallelBreadthFirstSearchPathfinder<E> extends Pathfinder<E> {
+    // Switch to bottom up once the frontier edges exceed the unexplored edges divided by this
+    private static final int ALPHA = 14;
+    // Switch back to top down once the frontier holds fewer than the vertices divided by this
+    private static final int BETA = 24;
+    // Vertices handled by each task
+    private static final int GRAIN = 2048;
+
+    private final CompactGraph<E> reverse;
+    private final ForkJoinPool pool;
+    private final AtomicBitSet claimed;
+    // Hop counts, valid for the vertices reached in the current search
+    private final int[] hops;
+    private final long[] inFrontier;
+    private int[] frontier;
+    private int[] next;
+
+    /**
+     * Creates a new pathfinder utilizing the parallel breadth first search algorithm on the common fork join pool
+     *
+     * @param g the graph to search
+     */
+    public ParallelBreadthFirstSearchPathfinder(Graph<E> g) {
+        this(g.freeze());
+    }
+
+    /**
+     * Creates a new pathfinder utilizing the parallel breadth first search algorithm on the common fork join pool
+     *
+     * @param g the compact graph to search
+     */
+    public ParallelBreadthFirstSearchPathfinder(CompactGraph<E> g) {
+        this(g, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new pathfinder utilizing the parallel breadth first search algorithm
+     *
+     * @param g the compact graph to search
+     * @param pool the pool to expand levels on
+     */
+    public ParallelBreadthFirstSearchPathfinder(CompactGraph<E> g, ForkJoinPool pool) {
+        super(g);
+        int n = g.size();
+        this.reverse = g.reverse();
+        this.pool = pool;
+        this.claimed = new AtomicBitSet(n);
+        this.hops = new int[n];
+        this.inFrontier = new long[(n + 63) >>> 6];
+        this.frontier = new int[n];
+        this.next = new int[n];
+    }
+
+    @Override
+    /**
+     * Searches the graph from a source vertex to a target vertex. The search stops after the level that reaches the
+     * target
+     *
+     * @param from the vertex to search from
+     * @param to the vertex to search to
+     */
+    public void searchGraphTo(E from, E to) {
+        // Get and prepare the source vertex
+        int source = beginSearch(from);
+        int target = to == null ? SearchState.NONE : g.getId(to);
+        claimed.clear();
+        claimed.claim(source);
+        state.visit(source);
+        hops[source] = 0;
+        frontier[0] = source;
+        int size = 1;
+
+        int n = g.size();
+        long unexplored = g.edgeCount();
+        boolean bottomUp = false;
+        for(int level = 0; size > 0; level++) {
+            // Early exit
+            if(target != SearchState.NONE && claimed.get(target)) {
+                return;
+            }
+            long frontierEdges = 0;
+            for(int i = 0; i < size; i++) {
+                frontierEdges += g.getDegree(frontier[i]);
+            }
+            // Pick the direction expected to check fewer edges
+            if(!bottomUp && frontierEdges > unexplored / ALPHA) {
+                bottomUp = true;
+            } else if(bottomUp && size < n / BETA) {
+                bottomUp = false;
+            }
+            unexplored -= frontierEdges;
+            size = bottomUp ? expandBottomUp(size, level) : expandTopDown(size, level);
+            int[] swap = frontier;
+            frontier = next;
+            next = swap;
+        }
+    }
+
+    /**
+     * Returns the number of edges on the path to a target vertex
+     *
+     * @param to the target vertex
+     * @return the number of edges on the path, or -1 if the vertex was not reached
+     */
+    public int getHopsTo(E to) {
+        int id = g.getId(to);
+        return id > -1 && state.isReached(id) ? hops[id] : -1;
+    }
+
+    /**
+     * Returns true if the last search reached the vertex
+     *
+     * @param to the target vertex
+     * @return true if the vertex was reached
+     */
+    public boolean isReachable(E to) {
+        return getHopsTo(to) > -1;
+    }
+
+    /**
+     * Expands the frontier by following the edges leaving each frontier vertex
+     *
+     * @param size the number of vertices in the frontier
+     * @param level the hop count of the frontier
+     * @return the number of vertices in the next frontier
+     */
+    private int expandTopDown(int size, int level) {
+        int chunks = (size + GRAIN - 1) / GRAIN;
+        int[][] found = new int[chunks][];
+        int[] counts = new int[chunks];
+        pool.invoke(new RangeTask(0, chunks, 1, (start, end) -> {
+            for(int c = start; c < end; c++) {
+                int[] out = new int[16];
+                int count = 0;
+                for(int f = c * GRAIN, fEnd = Math.min(size, f + GRAIN); f < fEnd; f++) {
+                    int current = frontier[f];
+                    int score = state.getScore(current);
+                    for(int i = g.getEdgeStart(current), iEnd = g.getEdgeEnd(current); i < iEnd; i++) {
+                        int v = g.getTarget(i);
+                        // Only the thread that claims a vertex writes its search state
+                        if(!claimed.get(v) && claimed.claim(v)) {
+                            reach(v, current, score + g.getCost(i), level + 1);
+                            if(count == out.length) {
+                                out = Arrays.copyOf(out, count * 2);
+                            }
+                            out[count++] = v;
+                        }
+                    }
+                }
+                found[c] = out;
+                counts[c] = count;
+            }
+        }));
+        return gather(found, counts);
+    }
+
+    /**
+     * Expands the frontier by letting every unvisited vertex look for an edge from the frontier
+     *
+     * @param size the number of vertices in the frontier
+     * @param level the hop count of the frontier
+     * @return the number of vertices in the next frontier
+     */
+    private int expandBottomUp(int size, int level) {
+        Arrays.fill(inFrontier, 0);
+        for(int i = 0; i < size; i++) {
+            inFrontier[frontier[i] >>> 6] |= 1L << frontier[i];
+        }
+        int n = g.size();
+        int chunks = (n + GRAIN - 1) / GRAIN;
+        int[][] found = new int[chunks][];
+        int[] counts = new int[chunks];
+        pool.invoke(new RangeTask(0, chunks, 1, (start, end) -> {
+            for(int c = start; c < end; c++) {
+                int[] out = new int[16];
+                int count = 0;
+                for(int v = c * GRAIN, vEnd = Math.min(n, v + GRAIN); v < vEnd; v++) {
+                    if(claimed.get(v)) {
+                        continue;
+                    }
+                    // Stop at the first edge entering the vertex from the frontier
+                    for(int i = reverse.getEdgeStart(v), iEnd = reverse.getEdgeEnd(v); i < iEnd; i++) {
+                        int u = reverse.getTarget(i);
+                        if((inFrontier[u >>> 6] & (1L << u)) != 0) {
+                            claimed.claim(v);
+                            reach(v, u, state.getScore(u) + reverse.getCost(i), level + 1);
+                            if(count == out.length) {
+                                out = Arrays.copyOf(out, count * 2);
+                            }
+                            out[count++] = v;
+                            break;
+                        }
+                    }
+                }
+                found[c] = out;
+                counts[c] = count;
+            }
+        }));
+        return gather(found, counts);
+    }
+
+    /**
+     * Records the search results of a newly claimed vertex
+     *
+     * @param v the vertex id
+     * @param parent the parent vertex id
+     * @param score the cost to reach the vertex
+     * @param level the hop count of the vertex
+     */
+    private void reach(int v, int parent, int score, int level) {
+        state.setScore(v, score);
+        state.setParent(v, parent);
+        state.visit(v);
+        hops[v] = level;
+    }
+
+    /**
+     * Copies the vertices found by each chunk into the next frontier
+     *
+     * @param found the vertices found by each chunk
+     * @param counts the number of vertices found by each chunk
+     * @return the number of vertices in the next frontier
+     */
+    private int gather(int[][] found, int[] counts) {
+        int size = 0;
+        for(int c = 0; c < found.length; c++) {
+            System.arraycopy(found[c], 0, next, size, counts[c]);
+            size += counts[c];
+        }
+        return size;
+    }
+}
@@ -1,32 +1,71 @@
 package com.foley.util.graph;
 
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.NoSuchElementException;
 
 /**
- * Holds a list of steps that form a path
+ * Holds a list of steps that form a path. Steps are kept in an array, so any step can be read in constant time, and
+ * sub paths are views that share the array of the path they were cut from. A path built by a pathfinder also knows the
+ * cost of reaching each of its steps
  *
  * @author Evan Foley
  * @version 13 Jan 2019
  * @param <E> The type of the graph
  */
 public class Path<E> implements Iterable<E>{
-    private LinkedList<E> path;
+    private Object[] steps;
+    private int[] costs;
+    private int start;
+    private int end;
+    private boolean shared;
 
     /**
      * Creates a new path
      */
     public Path() {
-        path = new LinkedList<>();
+        steps = new Object[8];
+        costs = null;
+        start = steps.length;
+        end = steps.length;
+        shared = false;
     }
 
     /**
-     * Adds a step to the path
+     * Creates a path over a range of arrays. The arrays are not copied
+     *
+     * @param steps the steps
+     * @param costs the cost of reaching each step from the first step of the arrays, or null if not known
+     * @param start the first index (inclusive)
+     * @param end the last index (exclusive)
+     * @param shared true if the arrays are also used by another path
+     */
+    Path(Object[] steps, int[] costs, int start, int end, boolean shared) {
+        this.steps = steps;
+        this.costs = costs;
+        this.start = start;
+        this.end = end;
+        this.shared = shared;
+    }
+
+    /**
+     * Adds a step to the front of the path. The cost of the step is not known, so the path no longer knows its costs
      *
      * @param step the step to add
      */
     public void addStep(E step) {
-        path.addFirst(step);
+        if(start == 0 || shared) {
+            // Grow towards the front, copying so no other path sees the new step
+            int size = end - start;
+            Object[] grown = new Object[Math.max(8, size * 2)];
+            System.arraycopy(steps, start, grown, grown.length - size, size);
+            steps = grown;
+            start = grown.length - size;
+            end = grown.length;
+            shared = false;
+        }
+        steps[--start] = step;
+        costs = null;
     }
 
     /**
@@ -35,10 +74,29 @@ public class Path<E> implements Iterable<E>{
      * @param index the index
      * @return a step in the path
      */
+    @SuppressWarnings("unchecked")
     public E get(int index) {
         rangeCheck(index);
 
-        return path.get(index);
+        return (E) steps[start + index];
+    }
+
+    /**
+     * Returns the first step in the path
+     *
+     * @return the first step in the path
+     */
+    public E getFirst() {
+        return get(0);
+    }
+
+    /**
+     * Returns the last step in the path
+     *
+     * @return the last step in the path
+     */
+    public E getLast() {
+        return get(getSize() - 1);
     }
 
     /**
@@ -47,7 +105,7 @@ public class Path<E> implements Iterable<E>{
      * @return true if the path is empty
      */
     public boolean isEmpty() {
-        return path.isEmpty();
+        return start == end;
     }
 
     /**
@@ -56,7 +114,64 @@ public class Path<E> implements Iterable<E>{
      * @return the number of steps in the path
      */
     public int getSize() {
-        return path.size();
+        return end - start;
+    }
+
+    /**
+     * Returns true if the cost of each step is known
+     *
+     * @return true if the costs are known
+     */
+    public boolean hasCosts() {
+        return costs != null;
+    }
+
+    /**
+     * Returns the total cost of travelling the path from its first step to its last
+     *
+     * @return the total cost of the path, 0 if it is empty, or -1 if the costs are not known
+     */
+    public int getCost() {
+        if(costs == null) {
+            return -1;
+        }
+        return isEmpty() ? 0 : costs[end - 1] - costs[start];
+    }
+
+    /**
+     * Returns the cost of travelling from the first step of the path to another step
+     *
+     * @param index the index of the step
+     * @return the cost of reaching the step, or -1 if the costs are not known
+     */
+    public int getCostTo(int index) {
+        rangeCheck(index);
+
+        return costs == null ? -1 : costs[start + index] - costs[start];
+    }
+
+    /**
+     * Returns a view of part of the path. The view shares the steps of this path, so it takes constant time to create
+     *
+     * @param from the first index (inclusive)
+     * @param to the last index (exclusive)
+     * @return the part of the path
+     */
+    public Path<E> subPath(int from, int to) {
+        // Error out if the range does not fit in the path
+        if(from < 0 || to > getSize() || from > to) {
+            throw new IndexOutOfBoundsException("Cannot take a sub path from " + from + " to " + to + " of a path with " + getSize() + " steps");
+        }
+        return new Path<>(steps, costs, start + from, start + to, true);
+    }
+
+    /**
+     * Returns the steps of the path as an array
+     *
+     * @return the steps of the path
+     */
+    public Object[] toArray() {
+        return Arrays.copyOfRange(steps, start, end);
     }
 
     /**
@@ -65,7 +180,7 @@ public class Path<E> implements Iterable<E>{
      * @param index the index
      */
     private void rangeCheck(int index) {
-        if(index < 0 || index > path.size() - 1) {
+        if(index < 0 || index > getSize() - 1) {
             throw new IndexOutOfBoundsException("Cannot get a part of the path that is less than zero, or greater than the size of the path");
         }
     }
@@ -77,6 +192,39 @@ public class Path<E> implements Iterable<E>{
      * @return an iterator over a set of elements of type E
      */
     public Iterator<E> iterator() {
-        return path.iterator();
+        return new Iterator<E>() {
+            private int index = start;
+
+            @Override
+            public boolean hasNext() {
+                return index < end;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if(index >= end) {
+                    throw new NoSuchElementException();
+                }
+                return (E) steps[index++];
+            }
+        };
+    }
+
+    @Override
+    /**
+     * Returns a string representation of the path
+     *
+     * @return the string representation of the path
+     */
+    public String toString() {
+        StringBuilder build = new StringBuilder();
+        for(int i = start; i < end; i++) {
+            if(i > start) {
+                build.append(" -> ");
+            }
+            build.append(steps[i]);
+        }
+        return build.toString();
     }
 }
@@ -0,0 +1,187 @@
+package com.foley.util.graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Answers path queries concurrently over one shared compact graph. The graph is never copied; each query borrows a
+ * pathfinder, and with it a reusable search state, from a pool and returns it when done, so any number of threads can
+ * query at once without a pathfinder per thread. On Java 21 and later a virtual thread per task executor can be passed
+ * in to run every query on its own virtual thread
+ * <p>
+ * Each pathfinder holds search state the size of the graph, so the number of searches running at once is capped, by
+ * default at the parallelism of the executor when it is a fork join pool and otherwise at the number of processors.
+ * Queries beyond the cap wait for a pathfinder to be returned, so no more pathfinders than the cap are ever created
+ * or kept, however many queries are in flight
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ * @param <E> The type of the graph
+ */
+public class PathQueryEngine<E> {
+    private final CompactGraph<E> g;
+    private final Function<CompactGraph<E>, ? extends Pathfinder<E>> factory;
+    private final Executor executor;
+    private final Semaphore searches;
+    private final BlockingQueue<Pathfinder<E>> pool;
+
+    /**
+     * Creates a new query engine running batches on the common fork join pool
+     *
+     * @param g the compact graph to search
+     * @param factory creates pathfinders over the graph, such as DijkstraPathfinder::new
+     */
+    public PathQueryEngine(CompactGraph<E> g, Function<CompactGraph<E>, ? extends Pathfinder<E>> factory) {
+        this(g, factory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new query engine
+     *
+     * @param g the compact graph to search
+     * @param factory creates pathfinders over the graph, such as DijkstraPathfinder::new
+     * @param executor runs submitted queries
+     */
+    public PathQueryEngine(CompactGraph<E> g, Function<CompactGraph<E>, ? extends Pathfinder<E>> factory, Executor executor) {
+        this(g, factory, executor, executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new query engine
+     *
+     * @param g the compact graph to search
+     * @param factory creates pathfinders over the graph, such as DijkstraPathfinder::new
+     * @param executor runs submitted queries
+     * @param maxSearches the most searches to run at once, which is also the most pathfinders ever created
+     */
+    public PathQueryEngine(CompactGraph<E> g, Function<CompactGraph<E>, ? extends Pathfinder<E>> factory, Executor executor,
+                           int maxSearches) {
+        if(g == null || factory == null || executor == null) {
+            throw new IllegalArgumentException("Graph, pathfinder factory and executor cannot be null");
+        }
+        if(maxSearches < 1) {
+            throw new IllegalArgumentException("At least one search must be allowed at a time");
+        }
+        this.g = g;
+        this.factory = factory;
+        this.executor = executor;
+        this.searches = new Semaphore(maxSearches);
+        this.pool = new ArrayBlockingQueue<>(maxSearches);
+    }
+
+    /**
+     * Returns the graph being searched
+     *
+     * @return the graph being searched
+     */
+    public CompactGraph<E> getGraph() {
+        return g;
+    }
+
+    /**
+     * Finds the path between two vertices on the calling thread
+     *
+     * @param from the vertex to search from
+     * @param to the vertex to search to
+     * @return the result of the search
+     */
+    public PathResult<E> query(E from, E to) {
+        if(!g.containsVertex(to)) {
+            throw new IllegalArgumentException("Could not find target node based off of provided end point");
+        }
+        Pathfinder<E> finder = acquire();
+        try {
+            finder.searchGraphTo(from, to);
+            int cost = finder.getPathCostTo(to);
+            Path<E> path = cost == Integer.MAX_VALUE ? new Path<E>() : finder.getPathTo(to);
+            return new PathResult<>(from, to, cost, path);
+        } finally {
+            release(finder);
+        }
+    }
+
+    /**
+     * Submits a path query to the executor
+     *
+     * @param from the vertex to search from
+     * @param to the vertex to search to
+     * @return the future result of the search
+     */
+    public CompletableFuture<PathResult<E>> submit(E from, E to) {
+        return CompletableFuture.supplyAsync(() -> query(from, to), executor);
+    }
+
+    /**
+     * Submits a batch of path queries to the executor. The query at each index searches from the source to the target
+     * at that index
+     *
+     * @param from the vertices to search from
+     * @param to the vertices to search to
+     * @return the future result of each search, in query order
+     */
+    public List<CompletableFuture<PathResult<E>>> submitAll(List<E> from, List<E> to) {
+        if(from.size() != to.size()) {
+            throw new IllegalArgumentException("Every query needs both a source and a target");
+        }
+        List<CompletableFuture<PathResult<E>>> futures = new ArrayList<>(from.size());
+        for(int i = 0; i < from.size(); i++) {
+            futures.add(submit(from.get(i), to.get(i)));
+        }
+        return futures;
+    }
+
+    /**
+     * Runs a batch of path queries on the executor and waits for all of them to finish
+     *
+     * @param from the vertices to search from
+     * @param to the vertices to search to
+     * @return the result of each search, in query order
+     */
+    public List<PathResult<E>> queryAll(List<E> from, List<E> to) {
+        List<CompletableFuture<PathResult<E>>> futures = submitAll(from, to);
+        List<PathResult<E>> results = new ArrayList<>(futures.size());
+        for(CompletableFuture<PathResult<E>> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * Takes a pathfinder from the pool, waiting while the most searches allowed are running and creating one if the
+     * pool is empty
+     *
+     * @return a pathfinder that is not in use
+     */
+    private Pathfinder<E> acquire() {
+        searches.acquireUninterruptibly();
+        Pathfinder<E> finder = pool.poll();
+        if(finder != null) {
+            return finder;
+        }
+        try {
+            return factory.apply(g);
+        } catch(RuntimeException | Error e) {
+            searches.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a pathfinder to the pool
+     *
+     * @param finder the pathfinder
+     */
+    private void release(Pathfinder<E> finder) {
+        // Never more pathfinders than permits exist, so there is always room
+        pool.offer(finder);
+        searches.release();
+    }
+}
@@ -0,0 +1,90 @@
+package com.foley.util.graph;
+
+/**
+ * The outcome of a single path query
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ * @param <E> The type of the graph
+ */
+public class PathResult<E> {
+    private final E from;
+    private final E to;
+    private final int cost;
+    private final Path<E> path;
+
+    /**
+     * Creates a new path result
+     *
+     * @param from the source vertex
+     * @param to the target vertex
+     * @param cost the total cost to travel to the target, or Integer.MAX_VALUE if it cannot be reached
+     * @param path the path from the source to the target, empty if it cannot be reached
+     */
+    public PathResult(E from, E to, int cost, Path<E> path) {
+        this.from = from;
+        this.to = to;
+        this.cost = cost;
+        this.path = path;
+    }
+
+    /**
+     * Returns the source vertex
+     *
+     * @return the source vertex
+     */
+    public E getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the target vertex
+     *
+     * @return the target vertex
+     */
+    public E getTo() {
+        return to;
+    }
+
+    /**
+     * Returns the total cost to travel to the target
+     *
+     * @return the total cost to travel to the target, or Integer.MAX_VALUE if it cannot be reached
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Returns the path from the source to the target
+     *
+     * @return the path from the source to the target, empty if it cannot be reached
+     */
+    public Path<E> getPath() {
+        return path;
+    }
+
+    /**
+     * Returns true if the target can be reached from the source
+     *
+     * @return true if the target can be reached
+     */
+    public boolean isReachable() {
+        return cost != Integer.MAX_VALUE;
+    }
+
+    @Override
+    /**
+     * Returns a string representation of the result
+     *
+     * @return the string representation of the result
+     */
+    public String toString() {
+        StringBuilder build = new StringBuilder();
+        build.append(from + " to " + to + ": " + (isReachable() ? cost : "unreachable"));
+        for(E step : path) {
+            build.append(" -> " + step);
+        }
+        return build.toString();
+    }
+}
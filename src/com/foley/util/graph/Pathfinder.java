@@ -1,8 +1,6 @@
 package com.foley.util.graph;
 
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Searches a graph
@@ -11,33 +9,68 @@ import java.util.Map;
  * @version 13 Jan 2019
  */
 public abstract class Pathfinder<E> implements Searchable<E>{
-    protected Graph<E> g;
-    protected Map<E, SearchNode<E>> nodes;
+    protected CompactGraph<E> g;
+    protected SearchState state;
     protected Comparator<E> comp;
+    protected int source;
 
     /**
-     * Creates a new graph
+     * Creates a new pathfinder. The pathfinder searches a compact copy of the graph taken at creation
      *
      * @param g the graph to search
      */
     public Pathfinder(Graph<E> g) {
-        this(g, null);
+        this(g.freeze(), null);
     }
 
     /**
-     * Creates a new pathfinder
+     * Creates a new pathfinder. The pathfinder searches a compact copy of the graph taken at creation
      *
      * @param g the graph to search
      * @param comp the comparator
      */
     public Pathfinder(Graph<E> g, Comparator<E> comp) {
+        this(g.freeze(), comp);
+    }
+
+    /**
+     * Creates a new pathfinder
+     *
+     * @param g the compact graph to search
+     */
+    public Pathfinder(CompactGraph<E> g) {
+        this(g, null);
+    }
+
+    /**
+     * Creates a new pathfinder. The search state is allocated once and reused by every search
+     *
+     * @param g the compact graph to search
+     * @param comp the comparator
+     */
+    public Pathfinder(CompactGraph<E> g, Comparator<E> comp) {
         this.g = g;
-        this.nodes = new HashMap<>();
+        this.state = new SearchState(g.size());
         this.comp = comp;
-        // Create search nodes
-        for(E e : g.getVertices()) {
-            nodes.put(e, new SearchNode<>(e));
+        this.source = SearchState.NONE;
+    }
+
+    /**
+     * Starts a new search from a source vertex, invalidating the results of the previous search
+     *
+     * @param from the vertex to search from
+     * @return the id of the source vertex
+     */
+    protected int beginSearch(E from) {
+        int id = g.getId(from);
+        // Error out if source not found
+        if(id < 0) {
+            throw new IllegalArgumentException("Could not find source node based off of provided starting point");
         }
+        state.reset();
+        state.setScore(id, 0);
+        source = id;
+        return id;
     }
 
     @Override
@@ -58,11 +91,10 @@ public abstract class Pathfinder<E> implements Searchable<E>{
      * @return the total cost to travel to the target vertex
      */
     public int getPathCostTo(E to) {
-        // Get the destination node
-        SearchNode<E> node = nodes.get(to);
-        // If the node exists, return the cost to get to the node
-        if(node != null) {
-            return node.getScore();
+        int id = g.getId(to);
+        // If the vertex exists, return the cost to get to the vertex
+        if(id > -1) {
+            return state.getScore(id);
         }
         return -1;
     }
@@ -72,21 +104,49 @@ public abstract class Pathfinder<E> implements Searchable<E>{
      * Returns the path of vertices that lead to the target vertex
      *
      * @param to the target vertex
-     * @return the path of vertices that lead to the target vertex
+     * @return the path of vertices that lead to the target vertex, empty if it is not in the graph or was not reached
      */
     public Path<E> getPathTo(E to) {
-        // Get the destination node
-        SearchNode<E> node = nodes.get(to);
-        Path<E> path = new Path<>();
-        // If the node exists, add steps until the root node is reached
-        if(node != null) {
-            while(node != null) {
-                path.addStep(node.data);
-                node = node.parent;
-            }
+        int id = g.getId(to);
+        // Return an empty path if the vertex does not exist or the search did not reach it
+        if(id < 0 || state.getScore(id) == Integer.MAX_VALUE) {
+            return new Path<>();
+        }
+        // Count the steps first so the path can be filled from the back in one exactly sized array
+        int size = 0;
+        for(int v = id; v != SearchState.NONE; v = state.getParent(v)) {
+            size++;
+        }
+        Object[] steps = new Object[size];
+        int[] costs = new int[size];
+        int index = size;
+        for(int v = id; v != SearchState.NONE; v = state.getParent(v)) {
+            steps[--index] = g.getVertex(v);
+            costs[index] = state.getScore(v);
+        }
+        return new Path<>(steps, costs, 0, size, false);
+    }
+
+    /**
+     * Returns the results of the last search as a shortest path tree, copying the cost and parent of every vertex in
+     * one pass. After a search to a single target, vertices the search did not finish with may hold costs that are
+     * not yet the shortest
+     *
+     * @return the shortest path tree of the last search
+     */
+    public ShortestPathTree<E> getShortestPathTree() {
+        // Error out if no search has been run
+        if(source == SearchState.NONE) {
+            throw new IllegalStateException("Cannot build a shortest path tree before searching");
         }
-        // Return the resulting path (path may be empty)
-        return path;
+        int n = g.size();
+        int[] dist = new int[n];
+        int[] parent = new int[n];
+        for(int v = 0; v < n; v++) {
+            dist[v] = state.getScore(v);
+            parent[v] = state.getParent(v);
+        }
+        return new ShortestPathTree<>(g, source, dist, parent);
     }
 
     @Override
@@ -107,114 +167,21 @@ public abstract class Pathfinder<E> implements Searchable<E>{
         build.append("Search Results\n");
         build.append("-------------------------------------------------------\n");
         build.append("Node\t\tCost\t\tPath\n");
-        for(E e : g.getVertices()) {
-            build.append(e.toString() + "\t\t\t" + getPathCostTo(e) + "\t\t\t" + null);
-            Path<E> path = getPathTo(e);
-            for(E step : path) {
-                build.append(" -> " + step.toString());
+        // Walk the parents of each vertex into one reused buffer instead of building a path per vertex
+        int[] walk = new int[Math.max(1, g.size())];
+        for(int i = 0; i < g.size(); i++) {
+            E e = g.getVertex(i);
+            build.append(e.toString()).append("\t\t\t").append(state.getScore(i)).append("\t\t\t").append((Object) null);
+            int size = 0;
+            for(int v = i; v != SearchState.NONE; v = state.getParent(v)) {
+                walk[size++] = v;
+            }
+            for(int j = size - 1; j >= 0; j--) {
+                build.append(" -> ").append(g.getVertex(walk[j]).toString());
             }
             build.append("\n");
         }
         build.append("-------------------------------------------------------\n");
         return build.toString();
     }
-
-    /**
-     * Wrapper node for searching a graph
-     *
-     * @author Evan Foley
-     * @version 15 Jan 2019
-     */
-    protected class SearchNode<E> {
-        private E data;
-        private int score;
-        private boolean visited;
-        private SearchNode<E> parent;
-
-        /**
-         * Creates a new search node
-         *
-         * @param data the data payload
-         */
-        public SearchNode(E data) {
-            this.data = data;
-            this.score = Integer.MAX_VALUE;
-            this.visited = false;
-            this.parent = null;
-        }
-
-        /**
-         * Returns the data of the node
-         *
-         * @return the data of the node
-         */
-        public E getData() {
-            return data;
-        }
-
-        /**
-         * Gets the score of the node
-         *
-         * @return the score of the node
-         */
-        public int getScore() {
-            return score;
-        }
-
-        /**
-         * Sets the score of the node
-         *
-         * @param score the score
-         */
-        public void setScore(int score) {
-            this.score = score;
-        }
-
-        /**
-         * Returns true if the node has been visited
-         *
-         * @return true if the node has been visited
-         */
-        public boolean isVisited() {
-            return visited;
-        }
-
-        /**
-         * Visits the node
-         */
-        public void visit() {
-            this.visited = true;
-        }
-
-        /**
-         * Sets the visited flag
-         *
-         * @param visited true for a visited node, false for a node that has not been visited
-         */
-        public void setVisited(boolean visited) {
-            this.visited = visited;
-        }
-
-        /**
-         * Gets the parent of the node
-         *
-         * @return the parent of the node
-         */
-        public SearchNode<E> getParent() {
-            return parent;
-        }
-
-        /**
-         * Sets the parent of the node
-         *
-         * @param parent the parent
-         */
-        public void setParent(SearchNode<E> parent) {
-            // Ensure proper data is stored
-            if(parent == null || this == parent) {
-                throw new IllegalArgumentException("SearchNode cannot set parent value to null or self");
-            }
-            this.parent = parent;
-        }
-    }
 }
@@ -0,0 +1,30 @@
+package com.foley.util.graph;
+
+import java.awt.Point;
+
+/**
+ * Ready made heuristics for graphs of points on a grid. Each is admissible when every step between neighboring points
+ * costs at least 1
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public final class PointHeuristics {
+    /**
+     * Distance on a grid that only allows horizontal and vertical steps
+     */
+    public static final Heuristic<Point> MANHATTAN = (from, to) -> Math.abs(from.x - to.x) + Math.abs(from.y - to.y);
+
+    /**
+     * Distance on a grid that also allows diagonal steps
+     */
+    public static final Heuristic<Point> CHEBYSHEV = (from, to) -> Math.max(Math.abs(from.x - to.x), Math.abs(from.y - to.y));
+
+    /**
+     * Straight line distance, rounded down so it stays admissible for any grid movement
+     */
+    public static final Heuristic<Point> EUCLIDEAN = (from, to) -> (int) Math.sqrt(from.distanceSq(to));
+
+    private PointHeuristics() {
+    }
+}
@@ -0,0 +1,56 @@
+package com.foley.util.graph;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Splits a range of indices in half until each piece is small enough to run directly
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+class RangeTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int start;
+    private final int end;
+    private final int grain;
+    private final Body body;
+
+    /**
+     * Work done on a range of indices
+     */
+    interface Body {
+        /**
+         * Processes a range of indices
+         *
+         * @param start the first index (inclusive)
+         * @param end the last index (exclusive)
+         */
+        void run(int start, int end);
+    }
+
+    /**
+     * Creates a new range task
+     *
+     * @param start the first index (inclusive)
+     * @param end the last index (exclusive)
+     * @param grain the largest range run without splitting
+     * @param body the work done on each piece
+     */
+    RangeTask(int start, int end, int grain, Body body) {
+        this.start = start;
+        this.end = end;
+        this.grain = Math.max(1, grain);
+        this.body = body;
+    }
+
+    @Override
+    protected void compute() {
+        if(end - start <= grain) {
+            body.run(start, end);
+            return;
+        }
+        int mid = (start + end) >>> 1;
+        invokeAll(new RangeTask(start, mid, grain, body), new RangeTask(mid, end, grain, body));
+    }
+}
@@ -0,0 +1,200 @@
+package com.foley.util.graph;
+
+import java.util.Arrays;
+
+/**
+ * Per vertex scores, parents and visited flags for searches over dense vertex ids. Every entry is stamped with the
+ * search it was written in, so starting a new search invalidates all old results in constant time instead of clearing
+ * or re-allocating the arrays
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public final class SearchState {
+    /**
+     * Marks the absence of a vertex, such as the parent of the source vertex
+     */
+    public static final int NONE = -1;
+
+    private int[] score;
+    private int[] parent;
+    private boolean[] visited;
+    private int[] stamp;
+    private int epoch;
+
+    // Scratch space reused between searches
+    private int[] buffer;
+    private IndexedHeap heap;
+
+    /**
+     * Creates a new search state
+     *
+     * @param size the number of vertex ids
+     */
+    public SearchState(int size) {
+        score = new int[size];
+        parent = new int[size];
+        visited = new boolean[size];
+        stamp = new int[size];
+        // Stamps start at 0, so no entry belongs to the current epoch until it is written
+        epoch = 1;
+    }
+
+    /**
+     * Returns the number of vertex ids
+     *
+     * @return the number of vertex ids
+     */
+    public int size() {
+        return stamp.length;
+    }
+
+    /**
+     * Starts a new search, invalidating the results of the previous one
+     */
+    public void reset() {
+        if(++epoch == Integer.MAX_VALUE) {
+            // Wrap around without letting an old stamp collide with a new epoch
+            Arrays.fill(stamp, 0);
+            epoch = 1;
+        }
+    }
+
+    /**
+     * Brings the entry of a vertex into the current search, giving it default values if it is stale
+     *
+     * @param v the vertex id
+     */
+    private void touch(int v) {
+        if(stamp[v] != epoch) {
+            stamp[v] = epoch;
+            score[v] = Integer.MAX_VALUE;
+            parent[v] = NONE;
+            visited[v] = false;
+        }
+    }
+
+    /**
+     * Returns true if the vertex has been written to during the current search
+     *
+     * @param v the vertex id
+     * @return true if the vertex has been reached
+     */
+    public boolean isReached(int v) {
+        return stamp[v] == epoch;
+    }
+
+    /**
+     * Gets the score of the vertex
+     *
+     * @param v the vertex id
+     * @return the score of the vertex, or Integer.MAX_VALUE if it has not been reached
+     */
+    public int getScore(int v) {
+        return stamp[v] == epoch ? score[v] : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Sets the score of the vertex
+     *
+     * @param v the vertex id
+     * @param score the score
+     */
+    public void setScore(int v, int score) {
+        touch(v);
+        this.score[v] = score;
+    }
+
+    /**
+     * Gets the parent of the vertex
+     *
+     * @param v the vertex id
+     * @return the parent of the vertex, or NONE if it has no parent
+     */
+    public int getParent(int v) {
+        return stamp[v] == epoch ? parent[v] : NONE;
+    }
+
+    /**
+     * Sets the parent of the vertex
+     *
+     * @param v the vertex id
+     * @param parent the parent vertex id
+     */
+    public void setParent(int v, int parent) {
+        // Ensure proper data is stored
+        if(parent < 0 || v == parent) {
+            throw new IllegalArgumentException("Search state cannot set parent value to none or self");
+        }
+        touch(v);
+        this.parent[v] = parent;
+    }
+
+    /**
+     * Returns true if the vertex has been visited
+     *
+     * @param v the vertex id
+     * @return true if the vertex has been visited
+     */
+    public boolean isVisited(int v) {
+        return stamp[v] == epoch && visited[v];
+    }
+
+    /**
+     * Visits the vertex
+     *
+     * @param v the vertex id
+     */
+    public void visit(int v) {
+        touch(v);
+        visited[v] = true;
+    }
+
+    /**
+     * Sets the visited flag
+     *
+     * @param v the vertex id
+     * @param visited true for a visited vertex, false for a vertex that has not been visited
+     */
+    public void setVisited(int v, boolean visited) {
+        touch(v);
+        this.visited[v] = visited;
+    }
+
+    /**
+     * Returns a scratch int buffer of at least the requested length. The contents are unspecified
+     *
+     * @param length the minimum length
+     * @return a scratch int buffer
+     */
+    public int[] buffer(int length) {
+        if(buffer == null || buffer.length < length) {
+            buffer = new int[Math.max(length, 16)];
+        }
+        return buffer;
+    }
+
+    /**
+     * Doubles the length of the scratch int buffer, keeping its contents
+     *
+     * @return the grown scratch int buffer
+     */
+    public int[] growBuffer() {
+        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        return buffer;
+    }
+
+    /**
+     * Returns an empty heap able to hold every vertex id
+     *
+     * @return an empty heap
+     */
+    public IndexedHeap heap() {
+        if(heap == null) {
+            heap = new IndexedHeap(stamp.length);
+        } else {
+            heap.clear();
+        }
+        return heap;
+    }
+}
@@ -0,0 +1,280 @@
+package com.foley.util.graph;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * The result of a search from one source vertex to every other vertex, stored as a cost and a parent per vertex in
+ * arrays indexed by the vertex ids of the graph. Trees can be written to and read back from a compact binary format
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ * @param <E> The type of the graph
+ */
+public class ShortestPathTree<E> {
+    /**
+     * The cost of a vertex that cannot be reached from the source
+     */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /**
+     * Marks the absence of a parent, for the source and for vertices that were not reached
+     */
+    public static final int NONE = SearchState.NONE;
+
+    // Identifies the binary format, the ASCII bytes "SPT1"
+    private static final int MAGIC = 0x53505431;
+    private static final int HEADER = 12;
+
+    /**
+     * Receives the entries of a tree one at a time
+     */
+    @FunctionalInterface
+    public interface EntryVisitor {
+        /**
+         * Visits the entry of a reached vertex
+         *
+         * @param vertex the vertex id
+         * @param cost the cost of reaching the vertex from the source
+         * @param parent the id of the vertex before it on its path, or NONE for the source
+         */
+        void visit(int vertex, int cost, int parent);
+    }
+
+    private final CompactGraph<E> g;
+    private final int source;
+    private final int[] dist;
+    private final int[] parent;
+
+    /**
+     * Creates a new shortest path tree. The arrays are not copied
+     *
+     * @param g the graph the tree belongs to
+     * @param source the id of the source vertex
+     * @param dist the cost of reaching each vertex, or UNREACHABLE
+     * @param parent the parent of each vertex, or NONE
+     */
+    ShortestPathTree(CompactGraph<E> g, int source, int[] dist, int[] parent) {
+        if(dist.length != g.size() || parent.length != g.size()) {
+            throw new IllegalArgumentException("Shortest path tree must hold one cost and one parent for every vertex");
+        }
+        if(source < 0 || source >= g.size()) {
+            throw new IllegalArgumentException("Shortest path tree source must be a vertex of the graph");
+        }
+        this.g = g;
+        this.source = source;
+        this.dist = dist;
+        this.parent = parent;
+    }
+
+    /**
+     * Returns the graph the tree belongs to
+     *
+     * @return the graph the tree belongs to
+     */
+    public CompactGraph<E> getGraph() {
+        return g;
+    }
+
+    /**
+     * Returns the number of vertices in the tree, reached or not
+     *
+     * @return the number of vertices
+     */
+    public int size() {
+        return dist.length;
+    }
+
+    /**
+     * Returns the source vertex
+     *
+     * @return the source vertex
+     */
+    public E getSource() {
+        return g.getVertex(source);
+    }
+
+    /**
+     * Returns the id of the source vertex
+     *
+     * @return the id of the source vertex
+     */
+    public int getSourceId() {
+        return source;
+    }
+
+    /**
+     * Returns the cost of reaching a vertex from the source
+     *
+     * @param to the vertex
+     * @return the cost of reaching the vertex, or UNREACHABLE if it cannot be reached
+     */
+    public int getCost(E to) {
+        return getCost(idOf(to));
+    }
+
+    /**
+     * Returns the cost of reaching a vertex id from the source
+     *
+     * @param to the vertex id
+     * @return the cost of reaching the vertex, or UNREACHABLE if it cannot be reached
+     */
+    public int getCost(int to) {
+        return dist[to];
+    }
+
+    /**
+     * Returns the parent of a vertex id, the vertex before it on its path from the source
+     *
+     * @param v the vertex id
+     * @return the id of the parent, or NONE for the source and for vertices that cannot be reached
+     */
+    public int getParent(int v) {
+        return parent[v];
+    }
+
+    /**
+     * Returns true if a vertex id can be reached from the source
+     *
+     * @param v the vertex id
+     * @return true if the vertex can be reached
+     */
+    public boolean isReachable(int v) {
+        return dist[v] != UNREACHABLE;
+    }
+
+    /**
+     * Returns the path from the source to a vertex
+     *
+     * @param to the vertex
+     * @return the path to the vertex, empty if it cannot be reached
+     */
+    public Path<E> getPathTo(E to) {
+        return getPathTo(idOf(to));
+    }
+
+    /**
+     * Returns the path from the source to a vertex id
+     *
+     * @param to the vertex id
+     * @return the path to the vertex, empty if it cannot be reached
+     */
+    public Path<E> getPathTo(int to) {
+        if(!isReachable(to)) {
+            return new Path<>(new Object[0], new int[0], 0, 0, false);
+        }
+        int size = 0;
+        for(int v = to; v != NONE; v = parent[v]) {
+            size++;
+        }
+        Object[] steps = new Object[size];
+        int[] costs = new int[size];
+        int index = size;
+        for(int v = to; v != NONE; v = parent[v]) {
+            steps[--index] = g.getVertex(v);
+            costs[index] = dist[v];
+        }
+        return new Path<>(steps, costs, 0, size, false);
+    }
+
+    /**
+     * Visits the vertex id, cost and parent of every reached vertex in order of vertex id
+     *
+     * @param visitor the visitor
+     */
+    public void forEach(EntryVisitor visitor) {
+        for(int v = 0; v < dist.length; v++) {
+            if(dist[v] != UNREACHABLE) {
+                visitor.visit(v, dist[v], parent[v]);
+            }
+        }
+    }
+
+    /**
+     * Copies the cost of every vertex
+     *
+     * @return the costs, indexed by vertex id
+     */
+    public int[] toCostArray() {
+        return dist.clone();
+    }
+
+    /**
+     * Copies the parent of every vertex
+     *
+     * @return the parents, indexed by vertex id
+     */
+    public int[] toParentArray() {
+        return parent.clone();
+    }
+
+    /**
+     * Writes the tree as a header of magic number, vertex count and source id followed by the costs and then the
+     * parents, all as big endian ints. The stream is not closed
+     *
+     * @param out the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        int n = dist.length;
+        ByteBuffer bytes = ByteBuffer.allocate(HEADER + 8 * n);
+        bytes.putInt(MAGIC).putInt(n).putInt(source);
+        bytes.asIntBuffer().put(dist).put(parent);
+        out.write(bytes.array());
+    }
+
+    /**
+     * Reads a tree written by writeTo. The stream is not closed
+     *
+     * @param in the stream to read from
+     * @param g the graph the tree was built from
+     * @param <E> The type of the graph
+     * @return the tree
+     * @throws IOException if the stream cannot be read or does not hold a tree
+     */
+    public static <E> ShortestPathTree<E> readFrom(InputStream in, CompactGraph<E> g) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        byte[] header = new byte[HEADER];
+        data.readFully(header);
+        ByteBuffer head = ByteBuffer.wrap(header);
+        // Error out if the stream does not hold a tree of this graph
+        if(head.getInt() != MAGIC) {
+            throw new IOException("Stream does not hold a shortest path tree");
+        }
+        int n = head.getInt();
+        int source = head.getInt();
+        if(n != g.size()) {
+            throw new IllegalArgumentException("Shortest path tree has " + n + " vertices but the graph has " + g.size());
+        }
+        byte[] body = new byte[8 * n];
+        data.readFully(body);
+        int[] dist = new int[n];
+        int[] parent = new int[n];
+        ByteBuffer.wrap(body).asIntBuffer().get(dist).get(parent);
+        // Error out on parents outside of the graph, which would otherwise fail much later
+        for(int v = 0; v < n; v++) {
+            if(parent[v] < NONE || parent[v] >= n) {
+                throw new IOException("Shortest path tree has a parent outside of the graph at vertex " + v);
+            }
+        }
+        return new ShortestPathTree<>(g, source, dist, parent);
+    }
+
+    /**
+     * Returns the id of a vertex, checking it is in the graph
+     *
+     * @param e the vertex
+     * @return the id of the vertex
+     */
+    private int idOf(E e) {
+        int id = g.getId(e);
+        // Error out if the vertex is not in the graph
+        if(id < 0) {
+            throw new IllegalArgumentException("Vertex is not in the graph");
+        }
+        return id;
+    }
+}
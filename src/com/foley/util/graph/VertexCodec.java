@@ -0,0 +1,34 @@
+package com.foley.util.graph;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Converts vertices to and from bytes, so graphs can be stored in files. A vertex is written through a DataOutput and
+ * read back from a big endian buffer positioned at its first byte
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ * @param <E> The type of the graph
+ */
+public interface VertexCodec<E> {
+    /**
+     * Writes a vertex
+     *
+     * @param vertex the vertex
+     * @param out the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    void encode(E vertex, DataOutput out) throws IOException;
+
+    /**
+     * Reads a vertex, moving the position of the buffer past it
+     *
+     * @param in the buffer to read from
+     * @return the vertex
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the vertex does, as when a stored length
+     *                                           is corrupt
+     */
+    E decode(ByteBuffer in);
+}
@@ -0,0 +1,90 @@
+package com.foley.util.graph;
+
+import java.awt.Point;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Ready made codecs for common vertex types
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public final class VertexCodecs {
+    /**
+     * Integers as four bytes
+     */
+    public static final VertexCodec<Integer> INTEGER = new VertexCodec<Integer>() {
+        @Override
+        public void encode(Integer vertex, DataOutput out) throws IOException {
+            out.writeInt(vertex);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer in) {
+            return in.getInt();
+        }
+    };
+
+    /**
+     * Longs as eight bytes
+     */
+    public static final VertexCodec<Long> LONG = new VertexCodec<Long>() {
+        @Override
+        public void encode(Long vertex, DataOutput out) throws IOException {
+            out.writeLong(vertex);
+        }
+
+        @Override
+        public Long decode(ByteBuffer in) {
+            return in.getLong();
+        }
+    };
+
+    /**
+     * Strings as a four byte length followed by their UTF-8 bytes
+     */
+    public static final VertexCodec<String> STRING = new VertexCodec<String>() {
+        @Override
+        public void encode(String vertex, DataOutput out) throws IOException {
+            byte[] bytes = vertex.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String decode(ByteBuffer in) {
+            int length = in.getInt();
+            // A length the buffer cannot hold means the bytes are corrupt, so fail before allocating it
+            if(length < 0 || length > in.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * Points as their x and then y coordinates, four bytes each
+     */
+    public static final VertexCodec<Point> POINT = new VertexCodec<Point>() {
+        @Override
+        public void encode(Point vertex, DataOutput out) throws IOException {
+            out.writeInt(vertex.x);
+            out.writeInt(vertex.y);
+        }
+
+        @Override
+        public Point decode(ByteBuffer in) {
+            int x = in.getInt();
+            return new Point(x, in.getInt());
+        }
+    };
+
+    private VertexCodecs() {
+    }
+}
@@ -0,0 +1,146 @@
+package com.foley.util.intcode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sparse per address counters, paged the same way as program memory so counting near addresses is an array increment
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class AddressCounts {
+    private static final int PAGE_MASK = PagedMemory.PAGE_SIZE - 1;
+
+    private long[][] pages;
+    private Map<Long, long[]> farPages;
+    private long total;
+
+    /**
+     * Creates a new set of counters, all at 0
+     */
+    public AddressCounts() {
+        pages = new long[16][];
+        farPages = null;
+        total = 0;
+    }
+
+    /**
+     * Adds one to the counter of an address
+     *
+     * @param address the address
+     */
+    public void increment(long address) {
+        long index = address >>> PagedMemory.PAGE_BITS;
+        long[] page;
+        if(index < pages.length && (page = pages[(int) index]) != null) {
+            page[(int) address & PAGE_MASK]++;
+        } else {
+            page(index)[(int) address & PAGE_MASK]++;
+        }
+        total++;
+    }
+
+    /**
+     * Returns the counter of an address
+     *
+     * @param address the address
+     * @return the count, 0 if the address was never counted
+     */
+    public long get(long address) {
+        long index = address >>> PagedMemory.PAGE_BITS;
+        long[] page = index < pages.length ? pages[(int) index] : farPages == null ? null : farPages.get(index);
+        return page == null ? 0 : page[(int) address & PAGE_MASK];
+    }
+
+    /**
+     * Returns the sum of all counters
+     *
+     * @return the sum of all counters
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the addresses with the highest counts, highest first and lowest address first among ties
+     *
+     * @param limit the maximum number of addresses to return
+     * @return the addresses with the highest counts
+     */
+    public List<Long> top(int limit) {
+        List<Long> addresses = new ArrayList<>();
+        for(int i = 0; i < pages.length; i++) {
+            collect(addresses, i, pages[i]);
+        }
+        if(farPages != null) {
+            for(Map.Entry<Long, long[]> entry : farPages.entrySet()) {
+                collect(addresses, entry.getKey(), entry.getValue());
+            }
+        }
+        addresses.sort((a, b) -> {
+            int c = Long.compare(get(b), get(a));
+            return c != 0 ? c : Long.compare(a, b);
+        });
+        return addresses.size() > limit ? new ArrayList<>(addresses.subList(0, limit)) : addresses;
+    }
+
+    /**
+     * Sets every counter back to 0
+     */
+    public void clear() {
+        pages = new long[16][];
+        farPages = null;
+        total = 0;
+    }
+
+    /**
+     * Adds the addresses of a page with a non zero count to the list
+     *
+     * @param addresses the list to add to
+     * @param index the page index
+     * @param page the page, or null
+     */
+    private static void collect(List<Long> addresses, long index, long[] page) {
+        if(page == null) {
+            return;
+        }
+        for(int i = 0; i < page.length; i++) {
+            if(page[i] != 0) {
+                addresses.add(index << PagedMemory.PAGE_BITS | i);
+            }
+        }
+    }
+
+    /**
+     * Returns the page with an index, allocating it if needed
+     *
+     * @param index the page index
+     * @return the page
+     */
+    private long[] page(long index) {
+        if(index < PagedMemory.DIRECT_PAGES) {
+            if(index >= pages.length) {
+                pages = Arrays.copyOf(pages, (int) Math.min(PagedMemory.DIRECT_PAGES, Math.max(index + 1, pages.length * 2L)));
+            }
+            long[] page = pages[(int) index];
+            if(page == null) {
+                page = new long[PagedMemory.PAGE_SIZE];
+                pages[(int) index] = page;
+            }
+            return page;
+        }
+        if(farPages == null) {
+            farPages = new HashMap<>();
+        }
+        long[] page = farPages.get(index);
+        if(page == null) {
+            page = new long[PagedMemory.PAGE_SIZE];
+            farPages.put(index, page);
+        }
+        return page;
+    }
+}
@@ -0,0 +1,429 @@
+package com.foley.util.intcode;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compiles hot basic blocks of an int code program to JVM bytecode so HotSpot can optimize them like any other method.
+ * Each address counts how often the interpreter reaches it, and once the count passes a threshold the straight line
+ * run of instructions starting there is compiled into its own class. Immediate parameters and position mode addresses
+ * become constants in the generated code
+ * <p>
+ * A block ends at its first jump, at any instruction it cannot compile, after a relative mode write, and before any
+ * word that one of its own position mode writes lands on, so a block never runs code it has itself modified. A jump is
+ * only compiled when its target is immediate, since the interpreter reads any other target only when the jump is taken,
+ * so a block ends before a jump whose target has to be read from memory. Before each instruction that can fail on a
+ * negative address the block records its index, so the interpreter can resume at that instruction and fail on it with
+ * the same state it would have had without the block. Writes
+ * to a block from anywhere else are caught through the code marks in memory, and an address whose block keeps being
+ * invalidated by self modifying code is left to the interpreter
+ * <p>
+ * A compiler belongs to one memory and must be replaced whenever the memory it was built against is swapped out
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public final class BlockCompiler {
+    private static final int THRESHOLD = 64;
+    private static final int MAX_LENGTH = 64;
+    private static final int MAX_RECOMPILES = 4;
+
+    // Parameter modes
+    private static final int POSITION = 0;
+    private static final int IMMEDIATE = 1;
+    private static final int RELATIVE = 2;
+
+    // Names used by the generated classes
+    private static final String MEMORY = "com/foley/util/intcode/PagedMemory";
+    private static final String BLOCK = "com/foley/util/intcode/CompiledBlock";
+    private static final String BODY = "com/foley/util/intcode/CompiledBlock$Body";
+    private static final String EXECUTE = "(Lcom/foley/util/intcode/PagedMemory;[J)J";
+
+    // Opcodes of the JVM instructions that are emitted
+    private static final int LCONST_0 = 0x09;
+    private static final int LCONST_1 = 0x0A;
+    private static final int BIPUSH = 0x10;
+    private static final int LDC2_W = 0x14;
+    private static final int LLOAD_3 = 0x21;
+    private static final int ALOAD_1 = 0x2B;
+    private static final int ALOAD_2 = 0x2C;
+    private static final int LALOAD = 0x2F;
+    private static final int LSTORE_3 = 0x42;
+    private static final int LASTORE = 0x50;
+    private static final int ICONST_0 = 0x03;
+    private static final int ICONST_1 = 0x04;
+    private static final int I2L = 0x85;
+    private static final int LADD = 0x61;
+    private static final int LMUL = 0x69;
+    private static final int LRETURN = 0xAD;
+    private static final int INVOKEVIRTUAL = 0xB6;
+    private static final int INVOKESTATIC = 0xB8;
+
+    private final Loader loader;
+    private CompiledBlock[][] blocks;
+    private int[][] hits;
+    private int compiled;
+
+    /**
+     * Defines the generated classes of one compiler, so they can be unloaded along with it
+     */
+    private static final class Loader extends ClassLoader {
+        Loader() {
+            super(BlockCompiler.class.getClassLoader());
+        }
+
+        Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Creates a new compiler with no compiled blocks
+     */
+    public BlockCompiler() {
+        loader = new Loader();
+        blocks = new CompiledBlock[16][];
+        hits = new int[16][];
+        compiled = 0;
+    }
+
+    /**
+     * Returns the number of blocks compiled so far, including ones that were later invalidated
+     *
+     * @return the number of blocks compiled
+     */
+    public int getCompiledCount() {
+        return compiled;
+    }
+
+    /**
+     * Returns the valid compiled block starting at an address, compiling one if the address has become hot
+     *
+     * @param memory the program memory
+     * @param address the address of the next instruction
+     * @return the compiled block, or null if the instruction should be interpreted
+     */
+    public CompiledBlock lookup(PagedMemory memory, long address) {
+        long index = address >>> PagedMemory.PAGE_BITS;
+        if(index >= PagedMemory.DIRECT_PAGES) {
+            return null;
+        }
+        int page = (int) index;
+        int word = (int) address & (PagedMemory.PAGE_SIZE - 1);
+        if(page >= hits.length) {
+            int length = Math.min(PagedMemory.DIRECT_PAGES, Math.max(page + 1, hits.length * 2));
+            hits = Arrays.copyOf(hits, length);
+            blocks = Arrays.copyOf(blocks, length);
+        }
+        if(hits[page] == null) {
+            hits[page] = new int[PagedMemory.PAGE_SIZE];
+            blocks[page] = new CompiledBlock[PagedMemory.PAGE_SIZE];
+        }
+
+        CompiledBlock block = blocks[page][word];
+        if(block != null && block.isValid(memory)) {
+            return block;
+        }
+        // A negative count marks an address left to the interpreter
+        int count = hits[page][word];
+        if(count < 0 || (hits[page][word] = count + 1) < THRESHOLD) {
+            return null;
+        }
+        hits[page][word] = 0;
+        int recompiles = block == null ? 0 : block.getRecompiles() + 1;
+        block = recompiles > MAX_RECOMPILES ? null : compile(memory, address, recompiles);
+        blocks[page][word] = block;
+        if(block == null) {
+            hits[page][word] = -1;
+        }
+        return block;
+    }
+
+    /**
+     * Compiles the block starting at an address
+     *
+     * @param memory the program memory
+     * @param start the address of the first instruction
+     * @param recompiles the number of times the block at this address has been compiled before
+     * @return the compiled block, or null if the first instruction cannot be compiled
+     */
+    private CompiledBlock compile(PagedMemory memory, long start, int recompiles) {
+        // Collect the straight line run of compilable instructions
+        List<Instruction> body = new ArrayList<>();
+        long address = start;
+        while(body.size() < MAX_LENGTH) {
+            Instruction in = Instruction.decode(memory, address);
+            if(!isCompilable(in)) {
+                break;
+            }
+            body.add(in);
+            address += in.getLength();
+            int opcode = in.getOpcode();
+            if(opcode == 5 || opcode == 6 || (isWrite(opcode) && in.getMode3() == RELATIVE)) {
+                break;
+            }
+        }
+
+        // End the block before any later word of it that one of its own writes lands on
+        long end = address;
+        long next = start;
+        for(int i = 0; i < body.size(); i++) {
+            Instruction in = body.get(i);
+            next += in.getLength();
+            if(isWrite(in.getOpcode()) && in.getMode3() == POSITION && in.getParam3() >= next && in.getParam3() < end) {
+                body.subList(i + 1, body.size()).clear();
+                end = next;
+            }
+        }
+        if(body.isEmpty() || !memory.markCode(start, end)) {
+            return null;
+        }
+
+        long[] addresses = new long[body.size()];
+        long at = start;
+        for(int i = 0; i < addresses.length; i++) {
+            addresses[i] = at;
+            at += body.get(i).getLength();
+        }
+
+        String name = "com/foley/util/intcode/GeneratedBlock" + compiled;
+        ClassFileWriter writer = new ClassFileWriter();
+        byte[] code = emit(writer, body, end);
+        byte[] bytes = writer.toByteArray(name, BODY, "execute", EXECUTE, code, 16, 5);
+        CompiledBlock.Body generated;
+        try {
+            generated = (CompiledBlock.Body) loader.define(name.replace('/', '.'), bytes).getConstructor().newInstance();
+        } catch(ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not load the compiled block at " + start, e);
+        }
+        compiled++;
+        return new CompiledBlock(generated, start, end, addresses, memory, recompiles);
+    }
+
+    /**
+     * Returns true if the instruction can be part of a compiled block
+     *
+     * @param in the instruction
+     * @return true if the instruction can be compiled
+     */
+    private static boolean isCompilable(Instruction in) {
+        switch(in.getOpcode()) {
+            case 1:
+            case 2:
+            case 7:
+            case 8:
+                return isReadMode(in.getMode1()) && isReadMode(in.getMode2())
+                        && (in.getMode3() == POSITION || in.getMode3() == RELATIVE);
+            case 5:
+            case 6:
+                // The target is read up front, which is only safe when reading it cannot fail
+                return isReadMode(in.getMode1()) && in.getMode2() == IMMEDIATE;
+            case 9:
+                return isReadMode(in.getMode1());
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns true if the mode is a valid mode for a read parameter
+     *
+     * @param mode the mode
+     * @return true if the mode can be read
+     */
+    private static boolean isReadMode(int mode) {
+        return mode == POSITION || mode == IMMEDIATE || mode == RELATIVE;
+    }
+
+    /**
+     * Returns true if the opcode writes to its third parameter
+     *
+     * @param opcode the opcode
+     * @return true if the opcode writes to memory
+     */
+    private static boolean isWrite(int opcode) {
+        return opcode == 1 || opcode == 2 || opcode == 7 || opcode == 8;
+    }
+
+    /**
+     * Returns true if running the instruction can fail on a negative address
+     *
+     * @param in the instruction
+     * @return true if the instruction can fail
+     */
+    private static boolean canFail(Instruction in) {
+        int parameters = in.getOpcode() == 9 ? 1 : in.getOpcode() == 5 || in.getOpcode() == 6 ? 2 : 3;
+        return canFail(in.getParam1(), in.getMode1())
+                || (parameters > 1 && canFail(in.getParam2(), in.getMode2()))
+                || (parameters > 2 && canFail(in.getParam3(), in.getMode3()));
+    }
+
+    /**
+     * Returns true if accessing a parameter can fail on a negative address
+     *
+     * @param param the raw parameter
+     * @param mode the parameter mode
+     * @return true if the access can fail
+     */
+    private static boolean canFail(long param, int mode) {
+        return mode == RELATIVE || (mode == POSITION && param < 0);
+    }
+
+    /**
+     * Emits the bytecode of a block. Local 1 holds the memory, local 2 the registers and locals 3 and 4 the relative
+     * base while the block runs. The relative base is stored back whenever it changes and the index of each
+     * instruction that can fail is stored before it runs, so the registers are current if the block throws
+     *
+     * @param writer the class file writer holding the constant pool
+     * @param body the instructions of the block
+     * @param end the address one past the last word of the block
+     * @return the bytecode
+     */
+    private static byte[] emit(ClassFileWriter writer, List<Instruction> body, long end) {
+        ByteArrayOutputStream code = new ByteArrayOutputStream();
+        int get = writer.methodRef(MEMORY, "get", "(J)J");
+        int set = writer.methodRef(MEMORY, "set", "(JJ)V");
+
+        // Load the relative base
+        code.write(ALOAD_2);
+        code.write(ICONST_0);
+        code.write(LALOAD);
+        code.write(LSTORE_3);
+
+        Instruction last = body.get(body.size() - 1);
+        for(int i = 0; i < body.size(); i++) {
+            Instruction in = body.get(i);
+            if(canFail(in)) {
+                // Record the instruction about to run
+                code.write(ALOAD_2);
+                code.write(ICONST_1);
+                code.write(BIPUSH);
+                code.write(i);
+                code.write(I2L);
+                code.write(LASTORE);
+            }
+            switch(in.getOpcode()) {
+                case 1:
+                case 2:
+                case 7:
+                case 8:
+                    code.write(ALOAD_1);
+                    emitAddress(writer, code, in.getParam3(), in.getMode3());
+                    emitRead(writer, code, get, in.getParam1(), in.getMode1());
+                    emitRead(writer, code, get, in.getParam2(), in.getMode2());
+                    if(in.getOpcode() == 1) {
+                        code.write(LADD);
+                    } else if(in.getOpcode() == 2) {
+                        code.write(LMUL);
+                    } else {
+                        String helper = in.getOpcode() == 7 ? "lessThan" : "equalTo";
+                        emitCall(code, INVOKESTATIC, writer.methodRef(BLOCK, helper, "(JJ)J"));
+                    }
+                    emitCall(code, INVOKEVIRTUAL, set);
+                    break;
+                case 9:
+                    code.write(LLOAD_3);
+                    emitRead(writer, code, get, in.getParam1(), in.getMode1());
+                    code.write(LADD);
+                    code.write(LSTORE_3);
+                    code.write(ALOAD_2);
+                    code.write(ICONST_0);
+                    code.write(LLOAD_3);
+                    code.write(LASTORE);
+                    break;
+                default:
+                    // Jumps only ever end a block and are emitted below
+                    break;
+            }
+        }
+
+        // Return the next address, picking the immediate jump target without branching
+        if(last.getOpcode() == 5 || last.getOpcode() == 6) {
+            emitRead(writer, code, get, last.getParam1(), last.getMode1());
+            if(last.getOpcode() == 5) {
+                emitRead(writer, code, get, last.getParam2(), last.getMode2());
+                emitConstant(writer, code, end);
+            } else {
+                emitConstant(writer, code, end);
+                emitRead(writer, code, get, last.getParam2(), last.getMode2());
+            }
+            emitCall(code, INVOKESTATIC, writer.methodRef(BLOCK, "select", "(JJJ)J"));
+        } else {
+            emitConstant(writer, code, end);
+        }
+        code.write(LRETURN);
+        return code.toByteArray();
+    }
+
+    /**
+     * Emits code pushing the value of a read parameter
+     *
+     * @param writer the class file writer holding the constant pool
+     * @param code the bytecode being written
+     * @param get the constant pool index of PagedMemory.get
+     * @param param the raw parameter
+     * @param mode the parameter mode
+     */
+    private static void emitRead(ClassFileWriter writer, ByteArrayOutputStream code, int get, long param, int mode) {
+        if(mode == IMMEDIATE) {
+            emitConstant(writer, code, param);
+        } else {
+            code.write(ALOAD_1);
+            emitAddress(writer, code, param, mode);
+            emitCall(code, INVOKEVIRTUAL, get);
+        }
+    }
+
+    /**
+     * Emits code pushing the address a parameter refers to
+     *
+     * @param writer the class file writer holding the constant pool
+     * @param code the bytecode being written
+     * @param param the raw parameter
+     * @param mode the parameter mode, position or relative
+     */
+    private static void emitAddress(ClassFileWriter writer, ByteArrayOutputStream code, long param, int mode) {
+        if(mode == RELATIVE) {
+            code.write(LLOAD_3);
+            emitConstant(writer, code, param);
+            code.write(LADD);
+        } else {
+            emitConstant(writer, code, param);
+        }
+    }
+
+    /**
+     * Emits code pushing a long constant
+     *
+     * @param writer the class file writer holding the constant pool
+     * @param code the bytecode being written
+     * @param value the constant
+     */
+    private static void emitConstant(ClassFileWriter writer, ByteArrayOutputStream code, long value) {
+        if(value == 0) {
+            code.write(LCONST_0);
+        } else if(value == 1) {
+            code.write(LCONST_1);
+        } else {
+            int index = writer.longConstant(value);
+            code.write(LDC2_W);
+            code.write(index >> 8);
+            code.write(index);
+        }
+    }
+
+    /**
+     * Emits a method call
+     *
+     * @param code the bytecode being written
+     * @param opcode the invoke opcode
+     * @param method the constant pool index of the method
+     */
+    private static void emitCall(ByteArrayOutputStream code, int opcode, int method) {
+        code.write(opcode);
+        code.write(method >> 8);
+        code.write(method);
+    }
+}
@@ -0,0 +1,48 @@
+package com.foley.util.intcode;
+
+/**
+ * A thread safe unbounded channel. Readers that take from an empty channel wait until a word is written, so computers
+ * running on separate threads can be wired together with it
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class BlockingChannel implements Channel {
+    private final QueueChannel queue;
+
+    /**
+     * Creates a new empty channel
+     */
+    public BlockingChannel() {
+        queue = new QueueChannel();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized long read() {
+        return queue.read();
+    }
+
+    @Override
+    public synchronized long take() throws InterruptedException {
+        while(queue.isEmpty()) {
+            wait();
+        }
+        return queue.read();
+    }
+
+    @Override
+    public synchronized void write(long value) {
+        queue.write(value);
+        notifyAll();
+    }
+}
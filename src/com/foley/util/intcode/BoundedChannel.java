@@ -0,0 +1,124 @@
+package com.foley.util.intcode;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A lock free channel with a fixed capacity. Any number of threads may write to it, but only one thread may read from
+ * it at a time. Each slot carries a sequence number that tells writers when it is free and the reader when it has been
+ * filled, so neither side ever takes a lock. Sequences are published with full volatile writes so a thread that fills or
+ * drains a slot and then checks whether its peer is asleep can never miss the peer going to sleep
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class BoundedChannel implements Channel {
+    private final long[] values;
+    private final AtomicLongArray sequence;
+    private final int mask;
+    private final AtomicLong head;
+    private final AtomicLong tail;
+
+    /**
+     * Creates a new empty channel
+     *
+     * @param capacity the minimum number of words the channel can hold, rounded up to a power of two
+     */
+    public BoundedChannel(int capacity) {
+        if(capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Channel capacity must be between 1 and 2^30");
+        }
+        int length = Integer.highestOneBit(capacity);
+        if(length < capacity) {
+            length <<= 1;
+        }
+        values = new long[length];
+        sequence = new AtomicLongArray(length);
+        // A slot is free for the write at position p when its sequence is p
+        for(int i = 0; i < length; i++) {
+            sequence.set(i, i);
+        }
+        mask = length - 1;
+        head = new AtomicLong();
+        tail = new AtomicLong();
+    }
+
+    /**
+     * Returns the number of words the channel can hold
+     *
+     * @return the capacity of the channel
+     */
+    public int capacity() {
+        return values.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        // The slot at the head is filled once its sequence moves one past its position
+        long pos = head.get();
+        return sequence.get((int) pos & mask) != pos + 1;
+    }
+
+    @Override
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, values.length));
+    }
+
+    @Override
+    public long read() {
+        long pos = head.get();
+        int slot = (int) pos & mask;
+        if(sequence.get(slot) != pos + 1) {
+            throw new NoSuchElementException("Cannot read from an empty channel");
+        }
+        long value = values[slot];
+        // Free the slot for the write one lap ahead
+        sequence.set(slot, pos + values.length);
+        head.set(pos + 1);
+        return value;
+    }
+
+    @Override
+    public long take() throws InterruptedException {
+        while(isEmpty()) {
+            if(Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            LockSupport.parkNanos(1000);
+        }
+        return read();
+    }
+
+    @Override
+    public void write(long value) {
+        if(!offer(value)) {
+            throw new IllegalStateException("Cannot write to a full channel");
+        }
+    }
+
+    @Override
+    public boolean offer(long value) {
+        long pos = tail.get();
+        while(true) {
+            int slot = (int) pos & mask;
+            long diff = sequence.get(slot) - pos;
+            if(diff == 0) {
+                // Claim the slot, then publish the value by moving its sequence
+                if(tail.compareAndSet(pos, pos + 1)) {
+                    values[slot] = value;
+                    sequence.set(slot, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if(diff < 0) {
+                // The slot still holds a word from the previous lap
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.foley.util.intcode;
+
+/**
+ * A first in first out stream of words passed into or out of an int code computer. The output channel of one computer
+ * can be used as the input channel of another to wire them together
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public interface Channel {
+    /**
+     * Returns true if there are no words waiting to be read
+     *
+     * @return true if the channel is empty
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the number of words waiting to be read
+     *
+     * @return the number of words waiting to be read
+     */
+    int size();
+
+    /**
+     * Removes and returns the next word without waiting
+     *
+     * @return the next word
+     * @throws java.util.NoSuchElementException if the channel is empty
+     */
+    long read();
+
+    /**
+     * Removes and returns the next word, waiting for one to be written if the channel is empty
+     *
+     * @return the next word
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    long take() throws InterruptedException;
+
+    /**
+     * Adds a word to the end of the channel
+     *
+     * @param value the word
+     */
+    void write(long value);
+
+    /**
+     * Adds a word to the end of the channel if there is room for it. Unbounded channels always have room
+     *
+     * @param value the word
+     * @return true if the word was added, false if the channel is full
+     */
+    default boolean offer(long value) {
+        write(value);
+        return true;
+    }
+}
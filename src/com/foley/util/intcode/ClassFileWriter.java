@@ -0,0 +1,249 @@
+package com.foley.util.intcode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes minimal Java 8 class files holding a public no argument constructor and one public method. Only what the
+ * block compiler needs is supported, and since its methods never branch no stack map frames are written
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+final class ClassFileWriter {
+    // Constant pool tags
+    private static final int UTF8 = 1;
+    private static final int LONG = 5;
+    private static final int CLASS = 7;
+    private static final int METHOD_REF = 10;
+    private static final int NAME_AND_TYPE = 12;
+
+    private final ByteArrayOutputStream poolBytes;
+    private final DataOutputStream pool;
+    private final Map<String, Integer> entries;
+    private int poolCount;
+
+    /**
+     * Creates a new class file writer with an empty constant pool
+     */
+    ClassFileWriter() {
+        poolBytes = new ByteArrayOutputStream();
+        pool = new DataOutputStream(poolBytes);
+        entries = new HashMap<>();
+        poolCount = 1;
+    }
+
+    /**
+     * Returns the constant pool index of a string
+     *
+     * @param value the string
+     * @return the constant pool index
+     */
+    int utf8(String value) {
+        Integer index = entries.get("U" + value);
+        if(index == null) {
+            try {
+                pool.writeByte(UTF8);
+                pool.writeUTF(value);
+            } catch(IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            index = add("U" + value, 1);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the constant pool index of a class
+     *
+     * @param name the internal name of the class, such as java/lang/Object
+     * @return the constant pool index
+     */
+    int classRef(String name) {
+        Integer index = entries.get("C" + name);
+        if(index == null) {
+            int nameIndex = utf8(name);
+            write(CLASS, nameIndex);
+            index = add("C" + name, 1);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the constant pool index of a method of a class
+     *
+     * @param owner the internal name of the class declaring the method
+     * @param name the name of the method
+     * @param descriptor the descriptor of the method
+     * @return the constant pool index
+     */
+    int methodRef(String owner, String name, String descriptor) {
+        String key = "M" + owner + '.' + name + descriptor;
+        Integer index = entries.get(key);
+        if(index == null) {
+            int ownerIndex = classRef(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            write(NAME_AND_TYPE, nameIndex, descriptorIndex);
+            int nameAndType = add("N" + key, 1);
+            write(METHOD_REF, ownerIndex, nameAndType);
+            index = add(key, 1);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the constant pool index of a long constant
+     *
+     * @param value the constant
+     * @return the constant pool index
+     */
+    int longConstant(long value) {
+        Integer index = entries.get("J" + value);
+        if(index == null) {
+            try {
+                pool.writeByte(LONG);
+                pool.writeLong(value);
+            } catch(IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // Long constants take up two pool slots
+            index = add("J" + value, 2);
+        }
+        return index;
+    }
+
+    /**
+     * Builds the class file
+     *
+     * @param name the internal name of the class
+     * @param iface the internal name of the one interface the class implements
+     * @param method the name of the method
+     * @param descriptor the descriptor of the method
+     * @param code the bytecode of the method
+     * @param maxStack the maximum operand stack depth of the method
+     * @param maxLocals the number of local variable slots of the method, including this
+     * @return the class file
+     */
+    byte[] toByteArray(String name, String iface, String method, String descriptor, byte[] code, int maxStack, int maxLocals) {
+        int thisClass = classRef(name);
+        int superClass = classRef("java/lang/Object");
+        int ifaceClass = classRef(iface);
+        int superInit = methodRef("java/lang/Object", "<init>", "()V");
+        int initName = utf8("<init>");
+        int initDescriptor = utf8("()V");
+        int methodName = utf8(method);
+        int methodDescriptor = utf8(descriptor);
+        int codeName = utf8("Code");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(52);
+            out.writeShort(poolCount);
+            out.write(poolBytes.toByteArray());
+            // Public final class with the super flag set
+            out.writeShort(0x0031);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(ifaceClass);
+            out.writeShort(0);
+            out.writeShort(2);
+
+            // Constructor calling Object.<init>
+            byte[] init = {0x2A, (byte) 0xB7, (byte) (superInit >> 8), (byte) superInit, (byte) 0xB1};
+            writeMethod(out, initName, initDescriptor, codeName, init, 1, 1);
+            writeMethod(out, methodName, methodDescriptor, codeName, code, maxStack, maxLocals);
+
+            out.writeShort(0);
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes a public method with a code attribute
+     *
+     * @param out the class file being written
+     * @param name the constant pool index of the method name
+     * @param descriptor the constant pool index of the method descriptor
+     * @param codeName the constant pool index of the string Code
+     * @param code the bytecode
+     * @param maxStack the maximum operand stack depth
+     * @param maxLocals the number of local variable slots
+     * @throws IOException never, the stream is in memory
+     */
+    private static void writeMethod(DataOutputStream out, int name, int descriptor, int codeName, byte[] code,
+                                    int maxStack, int maxLocals) throws IOException {
+        out.writeShort(0x0001);
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(1);
+        out.writeShort(codeName);
+        out.writeInt(12 + code.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code);
+        // No exception table and no attributes
+        out.writeShort(0);
+        out.writeShort(0);
+    }
+
+    /**
+     * Writes a constant pool entry made of a tag and two indices
+     *
+     * @param tag the tag
+     * @param first the first index
+     * @param second the second index
+     */
+    private void write(int tag, int first, int second) {
+        try {
+            pool.writeByte(tag);
+            pool.writeShort(first);
+            pool.writeShort(second);
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a constant pool entry made of a tag and one index
+     *
+     * @param tag the tag
+     * @param index the index
+     */
+    private void write(int tag, int index) {
+        try {
+            pool.writeByte(tag);
+            pool.writeShort(index);
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Records a new constant pool entry
+     *
+     * @param key the key identifying the entry
+     * @param slots the number of pool slots the entry takes
+     * @return the index of the entry
+     */
+    private int add(String key, int slots) {
+        int index = poolCount;
+        entries.put(key, index);
+        poolCount += slots;
+        if(poolCount > 0xFFFF) {
+            throw new IllegalStateException("Constant pool cannot hold more than 65535 entries");
+        }
+        return index;
+    }
+}
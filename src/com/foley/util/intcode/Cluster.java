@@ -0,0 +1,324 @@
+package com.foley.util.intcode;
+
+import com.foley.util.IntCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs many int code computers wired together by bounded lock free channels. Each machine is scheduled on the executor
+ * for a slice of instructions at a time, and a machine that is waiting on input or on room to write is parked until a
+ * neighbor makes progress, so idle machines cost nothing. When no machine is scheduled the cluster has either finished
+ * or stalled, and the run returns. On Java 21 and later a virtual thread per task executor can be passed in to run each
+ * slice on its own virtual thread
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class Cluster {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final long SLICE = 1 << 14;
+
+    // Machine states
+    private static final int IDLE = 0;
+    private static final int SCHEDULED = 1;
+    private static final int HALTED = 2;
+
+    private final Executor executor;
+    private final int capacity;
+    private final List<Node> nodes;
+    private final AtomicInteger active;
+    private final AtomicReference<RuntimeException> failure;
+    private volatile CompletableFuture<Void> done;
+    private long elapsed;
+
+    /**
+     * A machine and the neighbors it exchanges words with
+     */
+    private static final class Node {
+        final int id;
+        final IntCode machine;
+        final AtomicInteger state;
+        final List<Node> producers;
+        Node consumer;
+        volatile IntCode.Status status;
+        long slices;
+
+        Node(int id, IntCode machine) {
+            this.id = id;
+            this.machine = machine;
+            this.state = new AtomicInteger(IDLE);
+            this.producers = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Creates a new cluster running on the common fork join pool
+     */
+    public Cluster() {
+        this(DEFAULT_CAPACITY, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new cluster
+     *
+     * @param capacity the capacity of each channel created by connect
+     * @param executor runs the time slices of the machines
+     */
+    public Cluster(int capacity, Executor executor) {
+        if(capacity < 1 || executor == null) {
+            throw new IllegalArgumentException("Channel capacity cannot be less than 1, and executor cannot be null");
+        }
+        this.executor = executor;
+        this.capacity = capacity;
+        this.nodes = new ArrayList<>();
+        this.active = new AtomicInteger();
+        this.failure = new AtomicReference<>();
+    }
+
+    /**
+     * Adds a machine to the cluster
+     *
+     * @param machine the machine
+     * @return the id of the machine within the cluster
+     */
+    public synchronized int add(IntCode machine) {
+        if(machine == null) {
+            throw new IllegalArgumentException("Cannot add a null machine to the cluster");
+        }
+        Node node = new Node(nodes.size(), machine);
+        if(machine.isHalted()) {
+            node.state.set(HALTED);
+        }
+        nodes.add(node);
+        return node.id;
+    }
+
+    /**
+     * Returns a machine in the cluster
+     *
+     * @param id the id of the machine
+     * @return the machine
+     */
+    public synchronized IntCode getMachine(int id) {
+        return node(id).machine;
+    }
+
+    /**
+     * Returns the number of machines in the cluster
+     *
+     * @return the number of machines
+     */
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Feeds the output of one machine into the input of another. The first connection into a machine replaces its
+     * input with a bounded channel, carrying over any input already queued, and later connections into it share that
+     * channel
+     *
+     * @param from the id of the writing machine
+     * @param to the id of the reading machine
+     * @return the channel between the two machines
+     */
+    public synchronized BoundedChannel connect(int from, int to) {
+        Node source = node(from);
+        Node target = node(to);
+        // Error out if the writer already feeds a machine
+        if(source.consumer != null) {
+            throw new IllegalArgumentException("Machine " + from + " is already connected to machine " + source.consumer.id);
+        }
+        BoundedChannel channel;
+        Channel input = target.machine.getInputChannel();
+        if(!target.producers.isEmpty()) {
+            channel = (BoundedChannel) input;
+        } else {
+            channel = new BoundedChannel(capacity);
+            if(input.size() > channel.capacity()) {
+                throw new IllegalArgumentException("Machine " + to + " has more input queued than a channel can hold");
+            }
+            while(!input.isEmpty()) {
+                channel.write(input.read());
+            }
+            target.machine.setInputChannel(channel);
+        }
+        source.machine.setOutputChannel(channel);
+        source.consumer = target;
+        target.producers.add(source);
+        return channel;
+    }
+
+    /**
+     * Runs every machine that has not halted until each one has halted or is stuck waiting on a neighbor. Input can be
+     * given to stuck machines afterwards and the cluster run again
+     *
+     * @return true if every machine has halted, false if the cluster stalled with machines waiting
+     */
+    public synchronized boolean run() {
+        failure.set(null);
+        done = new CompletableFuture<>();
+        long start = System.nanoTime();
+        // Hold one count while scheduling so the run cannot finish before every machine has started
+        active.set(1);
+        for(Node node : nodes) {
+            if(node.state.compareAndSet(IDLE, SCHEDULED)) {
+                active.incrementAndGet();
+                executor.execute(() -> step(node));
+            }
+        }
+        release();
+        done.join();
+        elapsed += System.nanoTime() - start;
+
+        RuntimeException e = failure.get();
+        if(e != null) {
+            throw e;
+        }
+        return isHalted();
+    }
+
+    /**
+     * Returns true if every machine in the cluster has halted
+     *
+     * @return true if every machine has halted
+     */
+    public synchronized boolean isHalted() {
+        for(Node node : nodes) {
+            if(node.state.get() != HALTED) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the reason a machine last stopped running
+     *
+     * @param id the id of the machine
+     * @return the reason the machine stopped, or null if it has not run
+     */
+    public synchronized IntCode.Status getStatus(int id) {
+        return node(id).status;
+    }
+
+    /**
+     * Returns the aggregate work done by the cluster so far
+     *
+     * @return the stats of the cluster
+     */
+    public synchronized ClusterStats getStats() {
+        int halted = 0;
+        long instructions = 0;
+        long slices = 0;
+        for(Node node : nodes) {
+            if(node.state.get() == HALTED) {
+                halted++;
+            }
+            instructions += node.machine.getInstructionCount();
+            slices += node.slices;
+        }
+        return new ClusterStats(nodes.size(), halted, instructions, slices, elapsed);
+    }
+
+    /**
+     * Returns the node of a machine
+     *
+     * @param id the id of the machine
+     * @return the node of the machine
+     */
+    private Node node(int id) {
+        if(id < 0 || id >= nodes.size()) {
+            throw new IllegalArgumentException("Machine " + id + " is not in the cluster");
+        }
+        return nodes.get(id);
+    }
+
+    /**
+     * Runs one time slice of a machine, then reschedules it, parks it, or retires it
+     *
+     * @param node the machine to run
+     */
+    private void step(Node node) {
+        IntCode.Status status;
+        try {
+            status = node.machine.run(SLICE);
+        } catch(RuntimeException e) {
+            failure.compareAndSet(null, new IllegalStateException("Machine " + node.id + " failed", e));
+            node.state.set(HALTED);
+            release();
+            return;
+        }
+        node.slices++;
+        node.status = status;
+
+        // Let the neighbors pick up what this slice wrote or the room it freed
+        if(node.consumer != null) {
+            wake(node.consumer);
+        }
+        for(Node producer : node.producers) {
+            wake(producer);
+        }
+
+        switch(status) {
+            case YIELDED:
+            case OUTPUT_READY:
+                executor.execute(() -> step(node));
+                return;
+            case HALTED:
+                node.state.set(HALTED);
+                break;
+            default:
+                node.state.set(IDLE);
+                // A neighbor may have made progress before this machine was marked idle
+                if(canProceed(node) && node.state.compareAndSet(IDLE, SCHEDULED)) {
+                    executor.execute(() -> step(node));
+                    return;
+                }
+        }
+        release();
+    }
+
+    /**
+     * Schedules an idle machine if it is able to make progress
+     *
+     * @param node the machine
+     */
+    private void wake(Node node) {
+        if(node.state.get() == IDLE && canProceed(node) && node.state.compareAndSet(IDLE, SCHEDULED)) {
+            active.incrementAndGet();
+            executor.execute(() -> step(node));
+        }
+    }
+
+    /**
+     * Returns true if the channel an idle machine is waiting on is ready for it
+     *
+     * @param node the machine
+     * @return true if the machine can make progress
+     */
+    private static boolean canProceed(Node node) {
+        if(node.status == IntCode.Status.NEEDS_INPUT) {
+            return !node.machine.getInputChannel().isEmpty();
+        }
+        if(node.status == IntCode.Status.OUTPUT_BLOCKED) {
+            Channel output = node.machine.getOutputChannel();
+            return !(output instanceof BoundedChannel) || output.size() < ((BoundedChannel) output).capacity();
+        }
+        return true;
+    }
+
+    /**
+     * Drops one count of scheduled work, finishing the run once nothing is scheduled
+     */
+    private void release() {
+        if(active.decrementAndGet() == 0) {
+            done.complete(null);
+        }
+    }
+}
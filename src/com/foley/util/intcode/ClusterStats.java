@@ -0,0 +1,106 @@
+package com.foley.util.intcode;
+
+/**
+ * A snapshot of the aggregate work done by a cluster of int code computers
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class ClusterStats {
+    private final int machines;
+    private final int halted;
+    private final long instructions;
+    private final long slices;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a new snapshot
+     *
+     * @param machines the number of machines in the cluster
+     * @param halted the number of machines that have halted
+     * @param instructions the total number of instructions run
+     * @param slices the total number of scheduled time slices
+     * @param elapsedNanos the total wall clock time spent running, in nanoseconds
+     */
+    ClusterStats(int machines, int halted, long instructions, long slices, long elapsedNanos) {
+        this.machines = machines;
+        this.halted = halted;
+        this.instructions = instructions;
+        this.slices = slices;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the number of machines in the cluster
+     *
+     * @return the number of machines
+     */
+    public int getMachineCount() {
+        return machines;
+    }
+
+    /**
+     * Returns the number of machines that have halted
+     *
+     * @return the number of halted machines
+     */
+    public int getHaltedCount() {
+        return halted;
+    }
+
+    /**
+     * Returns the number of machines that have not halted
+     *
+     * @return the number of machines still waiting on input or output
+     */
+    public int getWaitingCount() {
+        return machines - halted;
+    }
+
+    /**
+     * Returns the total number of instructions run by every machine
+     *
+     * @return the total number of instructions
+     */
+    public long getInstructionCount() {
+        return instructions;
+    }
+
+    /**
+     * Returns the total number of time slices the machines were scheduled for
+     *
+     * @return the total number of time slices
+     */
+    public long getSliceCount() {
+        return slices;
+    }
+
+    /**
+     * Returns the wall clock time spent running the cluster
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the aggregate throughput of the cluster
+     *
+     * @return the number of instructions run per second of wall clock time, or 0 if the cluster has not run
+     */
+    public double getInstructionsPerSecond() {
+        return elapsedNanos == 0 ? 0 : instructions * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    /**
+     * Returns a string representation of the stats
+     *
+     * @return the string representation of the stats
+     */
+    public String toString() {
+        return String.format("%d machines (%d halted), %d instructions in %d slices, %.3f ms, %.0f instructions/s",
+                machines, halted, instructions, slices, elapsedNanos / 1e6, getInstructionsPerSecond());
+    }
+}
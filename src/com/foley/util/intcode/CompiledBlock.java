@@ -0,0 +1,157 @@
+package com.foley.util.intcode;
+
+/**
+ * A straight line run of int code instructions compiled to JVM bytecode. A block only holds arithmetic, comparison and
+ * relative base instructions, optionally ended by a jump, so it never reads input, writes output or halts. It stays
+ * valid until a write lands on one of the words it was compiled from
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public final class CompiledBlock {
+    /**
+     * The generated code of a block
+     */
+    public interface Body {
+        /**
+         * Runs the block
+         *
+         * @param memory the program memory
+         * @param registers holds the relative base at index 0, updated by the block, and receives at index 1 the
+         *                  index of the last instruction that could fail before it ran
+         * @return the address of the next instruction
+         */
+        long execute(PagedMemory memory, long[] registers);
+    }
+
+    private final Body body;
+    private final long start;
+    private final long end;
+    private final long[] addresses;
+    private final int generation;
+    private final int lastGeneration;
+    private final int recompiles;
+
+    /**
+     * Creates a new compiled block
+     *
+     * @param body the generated code
+     * @param start the address of the first instruction
+     * @param end the address one past the last word of the block
+     * @param addresses the address of each instruction in the block
+     * @param memory the memory the block was compiled from, after its words were marked as code
+     * @param recompiles the number of times the block at this address has been compiled before
+     */
+    CompiledBlock(Body body, long start, long end, long[] addresses, PagedMemory memory, int recompiles) {
+        this.body = body;
+        this.start = start;
+        this.end = end;
+        this.addresses = addresses;
+        this.generation = memory.getCodeGeneration(start);
+        this.lastGeneration = memory.getCodeGeneration(end - 1);
+        this.recompiles = recompiles;
+    }
+
+    /**
+     * Runs the block. If the block throws, the registers hold the relative base and the index of the failed
+     * instruction as they were just before it ran, and the instructions before it have taken effect
+     *
+     * @param memory the program memory
+     * @param registers holds the relative base at index 0, updated by the block, and receives at index 1 the index
+     *                  of the last instruction that could fail before it ran
+     * @return the address of the next instruction
+     */
+    public long execute(PagedMemory memory, long[] registers) {
+        return body.execute(memory, registers);
+    }
+
+    /**
+     * Returns true if none of the words the block was compiled from have been written since
+     *
+     * @param memory the program memory
+     * @return true if the block is still valid
+     */
+    public boolean isValid(PagedMemory memory) {
+        return memory.getCodeGeneration(start) == generation && memory.getCodeGeneration(end - 1) == lastGeneration;
+    }
+
+    /**
+     * Returns the address of the first instruction
+     *
+     * @return the address of the first instruction
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the address one past the last word of the block
+     *
+     * @return the address one past the last word of the block
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the number of instructions in the block
+     *
+     * @return the number of instructions in the block
+     */
+    public int getLength() {
+        return addresses.length;
+    }
+
+    /**
+     * Returns the address of an instruction in the block
+     *
+     * @param index the index of the instruction
+     * @return the address of the instruction
+     */
+    public long getAddress(int index) {
+        return addresses[index];
+    }
+
+    /**
+     * Returns the number of times the block at this address was compiled before this one
+     *
+     * @return the number of earlier compilations
+     */
+    int getRecompiles() {
+        return recompiles;
+    }
+
+    /**
+     * Less than, as called by generated code
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return 1 if a is less than b, otherwise 0
+     */
+    public static long lessThan(long a, long b) {
+        return a < b ? 1 : 0;
+    }
+
+    /**
+     * Equals, as called by generated code
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return 1 if a equals b, otherwise 0
+     */
+    public static long equalTo(long a, long b) {
+        return a == b ? 1 : 0;
+    }
+
+    /**
+     * Picks a jump target, as called by generated code
+     *
+     * @param condition the tested value
+     * @param ifTrue the address to use if the value is non zero
+     * @param ifFalse the address to use if the value is zero
+     * @return the picked address
+     */
+    public static long select(long condition, long ifTrue, long ifFalse) {
+        return condition != 0 ? ifTrue : ifFalse;
+    }
+}
@@ -0,0 +1,156 @@
+package com.foley.util.intcode;
+
+/**
+ * A decoded int code instruction: its opcode, parameter modes and raw parameters
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public final class Instruction {
+    private final int opcode;
+    private final int mode1;
+    private final int mode2;
+    private final int mode3;
+    private final long param1;
+    private final long param2;
+    private final long param3;
+    private final int length;
+
+    /**
+     * Creates a new instruction
+     *
+     * @param opcode the opcode
+     * @param mode1 the mode of the first parameter
+     * @param mode2 the mode of the second parameter
+     * @param mode3 the mode of the third parameter
+     * @param param1 the first raw parameter
+     * @param param2 the second raw parameter
+     * @param param3 the third raw parameter
+     * @param length the number of words the instruction occupies
+     */
+    private Instruction(int opcode, int mode1, int mode2, int mode3, long param1, long param2, long param3, int length) {
+        this.opcode = opcode;
+        this.mode1 = mode1;
+        this.mode2 = mode2;
+        this.mode3 = mode3;
+        this.param1 = param1;
+        this.param2 = param2;
+        this.param3 = param3;
+        this.length = length;
+    }
+
+    /**
+     * Decodes the instruction stored at an address
+     *
+     * @param memory the memory holding the program
+     * @param address the address of the instruction
+     * @return the decoded instruction
+     */
+    public static Instruction decode(PagedMemory memory, long address) {
+        long word = memory.get(address);
+        int opcode = (int) (word % 100);
+        int length = lengthOf(opcode);
+        return new Instruction(opcode, (int) (word / 100 % 10), (int) (word / 1000 % 10), (int) (word / 10000 % 10),
+                length > 1 ? memory.get(address + 1) : 0,
+                length > 2 ? memory.get(address + 2) : 0,
+                length > 3 ? memory.get(address + 3) : 0,
+                length);
+    }
+
+    /**
+     * Returns the number of words an instruction occupies
+     *
+     * @param opcode the opcode
+     * @return the number of words, 1 for unknown opcodes
+     */
+    public static int lengthOf(int opcode) {
+        switch(opcode) {
+            case 1:
+            case 2:
+            case 7:
+            case 8:
+                return 4;
+            case 5:
+            case 6:
+                return 3;
+            case 3:
+            case 4:
+            case 9:
+                return 2;
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * Returns the opcode
+     *
+     * @return the opcode
+     */
+    public int getOpcode() {
+        return opcode;
+    }
+
+    /**
+     * Returns the mode of the first parameter
+     *
+     * @return the mode of the first parameter
+     */
+    public int getMode1() {
+        return mode1;
+    }
+
+    /**
+     * Returns the mode of the second parameter
+     *
+     * @return the mode of the second parameter
+     */
+    public int getMode2() {
+        return mode2;
+    }
+
+    /**
+     * Returns the mode of the third parameter
+     *
+     * @return the mode of the third parameter
+     */
+    public int getMode3() {
+        return mode3;
+    }
+
+    /**
+     * Returns the first raw parameter
+     *
+     * @return the first raw parameter
+     */
+    public long getParam1() {
+        return param1;
+    }
+
+    /**
+     * Returns the second raw parameter
+     *
+     * @return the second raw parameter
+     */
+    public long getParam2() {
+        return param2;
+    }
+
+    /**
+     * Returns the third raw parameter
+     *
+     * @return the third raw parameter
+     */
+    public long getParam3() {
+        return param3;
+    }
+
+    /**
+     * Returns the number of words the instruction occupies
+     *
+     * @return the number of words the instruction occupies
+     */
+    public int getLength() {
+        return length;
+    }
+}
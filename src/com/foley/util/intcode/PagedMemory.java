@@ -0,0 +1,339 @@
+package com.foley.util.intcode;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sparse memory of long words addressed from 0 upwards. Memory is split into fixed size pages that are allocated the
+ * first time they are written, so untouched addresses read as 0 and cost nothing. Near pages can also hold decoded
+ * instructions, which are dropped whenever a word they were decoded from is written. Copies share their pages, and a
+ * shared page is only cloned by the first write to it
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class PagedMemory {
+    /**
+     * Number of address bits covered by one page
+     */
+    public static final int PAGE_BITS = 10;
+    /**
+     * Number of words in one page
+     */
+    public static final int PAGE_SIZE = 1 << PAGE_BITS;
+
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    // Pages below this index live in a directly indexed table, the rest in a map
+    static final int DIRECT_PAGES = 1 << 12;
+
+    private long[][] pages;
+    private boolean[] owned;
+    private Map<Long, long[]> farPages;
+    private Set<Long> ownedFarPages;
+    private Instruction[][] decoded;
+    private long[][] codeBits;
+    private int[] codeGenerations;
+
+    /**
+     * Creates a new empty memory
+     */
+    public PagedMemory() {
+        pages = new long[16][];
+        owned = new boolean[16];
+        farPages = null;
+        ownedFarPages = null;
+    }
+
+    /**
+     * Creates a new memory sharing every page with another memory. The pages become copy on write in both memories
+     *
+     * @param other the memory to share pages with
+     */
+    private PagedMemory(PagedMemory other) {
+        pages = other.pages.clone();
+        owned = new boolean[pages.length];
+        Arrays.fill(other.owned, false);
+        if(other.farPages != null) {
+            farPages = new HashMap<>(other.farPages);
+            ownedFarPages = new HashSet<>();
+            other.ownedFarPages.clear();
+        }
+    }
+
+    /**
+     * Creates a new memory holding a program from address 0
+     *
+     * @param program the initial values
+     */
+    public PagedMemory(long[] program) {
+        this();
+        for(int i = 0; i < program.length; i += PAGE_SIZE) {
+            long[] page = writablePage(i);
+            System.arraycopy(program, i, page, 0, Math.min(PAGE_SIZE, program.length - i));
+        }
+    }
+
+    /**
+     * Returns a copy of this memory. Pages are shared until either memory writes to them, so a copy costs one table
+     * entry per page rather than the whole contents. Decoded instructions and code marks are not carried over
+     *
+     * @return a copy of this memory
+     */
+    public PagedMemory copy() {
+        return new PagedMemory(this);
+    }
+
+    /**
+     * Returns the value at an address
+     *
+     * @param address the address
+     * @return the value at the address, 0 if it has never been written
+     */
+    public long get(long address) {
+        long[] page = page(address);
+        return page == null ? 0 : page[(int) address & PAGE_MASK];
+    }
+
+    /**
+     * Sets the value at an address
+     *
+     * @param address the address
+     * @param value the value
+     */
+    public void set(long address, long value) {
+        writablePage(address)[(int) address & PAGE_MASK] = value;
+        if(decoded != null || codeBits != null) {
+            invalidate(address);
+        }
+    }
+
+    /**
+     * Marks a range of words as compiled code, so that the code generation of their page moves on the next time one
+     * of them is written. Only near pages can hold compiled code
+     *
+     * @param from the first address (inclusive)
+     * @param to the last address (exclusive)
+     * @return true if the range was marked, false if it reaches past the near pages
+     */
+    boolean markCode(long from, long to) {
+        if(from < 0 || to > (long) DIRECT_PAGES << PAGE_BITS) {
+            return false;
+        }
+        if(codeBits == null) {
+            codeBits = new long[DIRECT_PAGES][];
+            codeGenerations = new int[DIRECT_PAGES];
+        }
+        for(long a = from; a < to; a++) {
+            int index = (int) (a >>> PAGE_BITS);
+            if(codeBits[index] == null) {
+                codeBits[index] = new long[PAGE_SIZE / 64];
+            }
+            int word = (int) a & PAGE_MASK;
+            codeBits[index][word >>> 6] |= 1L << word;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the code generation of the page holding an address. The generation moves each time a word marked as
+     * code in the page is written
+     *
+     * @param address the address
+     * @return the code generation of the page
+     */
+    int getCodeGeneration(long address) {
+        return codeGenerations == null ? 0 : codeGenerations[(int) (address >>> PAGE_BITS)];
+    }
+
+    /**
+     * Moves the code generation of a page if a written word was marked as code. Every block compiled from the page is
+     * stale afterwards, so the marks of the whole page are dropped with it
+     *
+     * @param address the written address
+     */
+    private void invalidateCode(long address) {
+        long index = address >>> PAGE_BITS;
+        if(index < DIRECT_PAGES) {
+            long[] bits = codeBits[(int) index];
+            int word = (int) address & PAGE_MASK;
+            if(bits != null && (bits[word >>> 6] & 1L << word) != 0) {
+                codeGenerations[(int) index]++;
+                codeBits[(int) index] = null;
+            }
+        }
+    }
+
+    /**
+     * Returns the cached decoding of the instruction at an address
+     *
+     * @param address the address
+     * @return the decoded instruction, or null if it is not cached
+     */
+    public Instruction getDecoded(long address) {
+        long index = address >>> PAGE_BITS;
+        if(decoded == null || index >= decoded.length) {
+            return null;
+        }
+        Instruction[] page = decoded[(int) index];
+        return page == null ? null : page[(int) address & PAGE_MASK];
+    }
+
+    /**
+     * Caches the decoding of the instruction at an address. Instructions in far pages are not cached
+     *
+     * @param address the address
+     * @param instruction the decoded instruction
+     */
+    public void setDecoded(long address, Instruction instruction) {
+        long index = pageIndex(address);
+        if(index >= DIRECT_PAGES) {
+            return;
+        }
+        if(decoded == null || index >= decoded.length) {
+            int length = decoded == null ? pages.length : decoded.length;
+            decoded = Arrays.copyOf(decoded == null ? new Instruction[0][] : decoded, (int) Math.max(index + 1, length));
+        }
+        Instruction[] page = decoded[(int) index];
+        if(page == null) {
+            page = new Instruction[PAGE_SIZE];
+            decoded[(int) index] = page;
+        }
+        page[(int) address & PAGE_MASK] = instruction;
+    }
+
+    /**
+     * Drops every cached instruction and compiled block that was built from the word at an address. An instruction is
+     * at most four words long, so only the instructions starting at the address or the three before it can be affected
+     *
+     * @param address the written address
+     */
+    private void invalidate(long address) {
+        if(codeBits != null) {
+            invalidateCode(address);
+        }
+        if(decoded == null) {
+            return;
+        }
+        long index = address >>> PAGE_BITS;
+        int word = (int) address & PAGE_MASK;
+        if(word >= 3) {
+            // All four addresses share a page
+            if(index < decoded.length) {
+                Instruction[] page = decoded[(int) index];
+                if(page != null) {
+                    page[word] = null;
+                    page[word - 1] = null;
+                    page[word - 2] = null;
+                    page[word - 3] = null;
+                }
+            }
+            return;
+        }
+        // The addresses straddle two pages
+        for(long a = Math.max(0, address - 3); a <= address; a++) {
+            long i = a >>> PAGE_BITS;
+            if(i < decoded.length) {
+                Instruction[] page = decoded[(int) i];
+                if(page != null) {
+                    page[(int) a & PAGE_MASK] = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of pages that have been allocated
+     *
+     * @return the number of allocated pages
+     */
+    public int getPageCount() {
+        int count = farPages == null ? 0 : farPages.size();
+        for(long[] page : pages) {
+            if(page != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the page holding an address without allocating it
+     *
+     * @param address the address
+     * @return the page holding the address, or null if it has not been allocated
+     */
+    private long[] page(long address) {
+        long index = pageIndex(address);
+        if(index < pages.length) {
+            return pages[(int) index];
+        }
+        return farPages == null ? null : farPages.get(index);
+    }
+
+    /**
+     * Returns the page holding an address, allocating it if needed
+     *
+     * @param address the address
+     * @return the page holding the address
+     */
+    private long[] writablePage(long address) {
+        long index = pageIndex(address);
+        // Kept small for the common case of a near page that is already owned
+        if(index < pages.length && owned[(int) index]) {
+            return pages[(int) index];
+        }
+        return allocatePage(index);
+    }
+
+    /**
+     * Returns the page with an index, allocating it or cloning a shared page if needed
+     *
+     * @param index the page index
+     * @return the page with the index, owned by this memory
+     */
+    private long[] allocatePage(long index) {
+        // Grow the direct table for near pages, fall back to the map for far ones
+        if(index >= pages.length && index < DIRECT_PAGES) {
+            int length = (int) Math.min(DIRECT_PAGES, Math.max(index + 1, pages.length * 2L));
+            pages = Arrays.copyOf(pages, length);
+            owned = Arrays.copyOf(owned, length);
+        }
+        if(index < pages.length) {
+            int i = (int) index;
+            long[] page = pages[i];
+            if(!owned[i]) {
+                // Allocate a fresh page, or clone one shared with a copy
+                page = page == null ? new long[PAGE_SIZE] : page.clone();
+                pages[i] = page;
+                owned[i] = true;
+            }
+            return page;
+        }
+        if(farPages == null) {
+            farPages = new HashMap<>();
+            ownedFarPages = new HashSet<>();
+        }
+        long[] page = farPages.get(index);
+        if(ownedFarPages.add(index)) {
+            page = page == null ? new long[PAGE_SIZE] : page.clone();
+            farPages.put(index, page);
+        }
+        return page;
+    }
+
+    /**
+     * Returns the index of the page holding an address
+     *
+     * @param address the address
+     * @return the page index
+     */
+    private static long pageIndex(long address) {
+        if(address < 0) {
+            throw new IllegalArgumentException("Memory addresses cannot be negative");
+        }
+        return address >>> PAGE_BITS;
+    }
+}
@@ -0,0 +1,271 @@
+package com.foley.util.intcode;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Execution statistics of an int code computer: how often each opcode ran, how often each address was run, read and
+ * written, and how long the computer spent waiting on its channels. A profile is only filled in while it is attached
+ * to a computer
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class Profile {
+    private static final int REPORT_LIMIT = 10;
+
+    private final long[] opcodes;
+    private final AddressCounts hits;
+    private final AddressCounts reads;
+    private final AddressCounts writes;
+    private long inputWaits;
+    private long inputWaitNanos;
+    private long outputWaits;
+    private long outputWaitNanos;
+
+    /**
+     * Creates a new empty profile
+     */
+    public Profile() {
+        opcodes = new long[100];
+        hits = new AddressCounts();
+        reads = new AddressCounts();
+        writes = new AddressCounts();
+    }
+
+    /**
+     * Records an instruction about to run
+     *
+     * @param address the address of the instruction
+     * @param opcode the opcode of the instruction
+     */
+    public void recordInstruction(long address, int opcode) {
+        hits.increment(address);
+        if(opcode >= 0 && opcode < opcodes.length) {
+            opcodes[opcode]++;
+        }
+    }
+
+    /**
+     * Records a memory read by an instruction
+     *
+     * @param address the address read
+     */
+    public void recordRead(long address) {
+        reads.increment(address);
+    }
+
+    /**
+     * Records a memory write by an instruction
+     *
+     * @param address the address written
+     */
+    public void recordWrite(long address) {
+        writes.increment(address);
+    }
+
+    /**
+     * Records time spent waiting for input
+     *
+     * @param nanos the time waited in nanoseconds
+     */
+    public void recordInputWait(long nanos) {
+        inputWaits++;
+        inputWaitNanos += nanos;
+    }
+
+    /**
+     * Records time spent waiting for room to write output
+     *
+     * @param nanos the time waited in nanoseconds
+     */
+    public void recordOutputWait(long nanos) {
+        outputWaits++;
+        outputWaitNanos += nanos;
+    }
+
+    /**
+     * Returns the number of times an opcode ran
+     *
+     * @param opcode the opcode
+     * @return the number of times the opcode ran
+     */
+    public long getOpcodeCount(int opcode) {
+        return opcode >= 0 && opcode < opcodes.length ? opcodes[opcode] : 0;
+    }
+
+    /**
+     * Returns the number of instructions profiled
+     *
+     * @return the number of instructions profiled
+     */
+    public long getInstructionCount() {
+        return hits.getTotal();
+    }
+
+    /**
+     * Returns how often each address was run as an instruction
+     *
+     * @return the per address instruction counts
+     */
+    public AddressCounts getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns how often each address was read by an instruction
+     *
+     * @return the per address read counts
+     */
+    public AddressCounts getReads() {
+        return reads;
+    }
+
+    /**
+     * Returns how often each address was written by an instruction
+     *
+     * @return the per address write counts
+     */
+    public AddressCounts getWrites() {
+        return writes;
+    }
+
+    /**
+     * Returns the number of times the computer waited for input
+     *
+     * @return the number of input waits
+     */
+    public long getInputWaits() {
+        return inputWaits;
+    }
+
+    /**
+     * Returns the total time the computer waited for input
+     *
+     * @return the time waited in nanoseconds
+     */
+    public long getInputWaitNanos() {
+        return inputWaitNanos;
+    }
+
+    /**
+     * Returns the number of times the computer waited for room to write output
+     *
+     * @return the number of output waits
+     */
+    public long getOutputWaits() {
+        return outputWaits;
+    }
+
+    /**
+     * Returns the total time the computer waited for room to write output
+     *
+     * @return the time waited in nanoseconds
+     */
+    public long getOutputWaitNanos() {
+        return outputWaitNanos;
+    }
+
+    /**
+     * Clears every statistic
+     */
+    public void reset() {
+        Arrays.fill(opcodes, 0);
+        hits.clear();
+        reads.clear();
+        writes.clear();
+        inputWaits = 0;
+        inputWaitNanos = 0;
+        outputWaits = 0;
+        outputWaitNanos = 0;
+    }
+
+    /**
+     * Returns the profile as a JSON object. Opcode counts are keyed by opcode, and the address heatmaps hold every
+     * counted address
+     *
+     * @return the JSON object
+     */
+    public String toJson() {
+        StringBuilder build = new StringBuilder();
+        build.append("{\"instructions\":").append(getInstructionCount());
+        build.append(",\"opcodes\":{");
+        boolean first = true;
+        for(int i = 0; i < opcodes.length; i++) {
+            if(opcodes[i] != 0) {
+                build.append(first ? "" : ",").append('"').append(i).append("\":").append(opcodes[i]);
+                first = false;
+            }
+        }
+        build.append('}');
+        appendCounts(build, "hits", hits);
+        appendCounts(build, "reads", reads);
+        appendCounts(build, "writes", writes);
+        build.append(",\"inputWaits\":").append(inputWaits);
+        build.append(",\"inputWaitNanos\":").append(inputWaitNanos);
+        build.append(",\"outputWaits\":").append(outputWaits);
+        build.append(",\"outputWaitNanos\":").append(outputWaitNanos);
+        build.append('}');
+        return build.toString();
+    }
+
+    /**
+     * Appends an address heatmap as a JSON member
+     *
+     * @param build the JSON being built
+     * @param name the member name
+     * @param counts the counts
+     */
+    private static void appendCounts(StringBuilder build, String name, AddressCounts counts) {
+        build.append(",\"").append(name).append("\":{");
+        boolean first = true;
+        for(long address : counts.top(Integer.MAX_VALUE)) {
+            build.append(first ? "" : ",").append('"').append(address).append("\":").append(counts.get(address));
+            first = false;
+        }
+        build.append('}');
+    }
+
+    @Override
+    /**
+     * Returns a readable report of the profile, listing the hottest addresses
+     *
+     * @return the report
+     */
+    public String toString() {
+        StringBuilder build = new StringBuilder();
+        build.append("Profile\n");
+        build.append("-------------------------------------------------------\n");
+        build.append("Instructions\t").append(getInstructionCount()).append('\n');
+        build.append("Opcode\t\tCount\t\tShare\n");
+        for(int i = 0; i < opcodes.length; i++) {
+            if(opcodes[i] != 0) {
+                build.append(i).append("\t\t\t").append(opcodes[i]).append("\t\t")
+                        .append(String.format(Locale.ROOT, "%.1f%%", 100.0 * opcodes[i] / getInstructionCount())).append('\n');
+            }
+        }
+        appendTop(build, "Hot instructions", hits);
+        appendTop(build, "Hot reads", reads);
+        appendTop(build, "Hot writes", writes);
+        build.append(String.format(Locale.ROOT, "Input waits\t%d (%.3f ms)%n", inputWaits, inputWaitNanos / 1e6));
+        build.append(String.format(Locale.ROOT, "Output waits\t%d (%.3f ms)%n", outputWaits, outputWaitNanos / 1e6));
+        build.append("-------------------------------------------------------\n");
+        return build.toString();
+    }
+
+    /**
+     * Appends the hottest addresses of a heatmap to a report
+     *
+     * @param build the report being built
+     * @param title the title of the section
+     * @param counts the counts
+     */
+    private static void appendTop(StringBuilder build, String title, AddressCounts counts) {
+        build.append(title).append('\n');
+        List<Long> top = counts.top(REPORT_LIMIT);
+        for(long address : top) {
+            build.append('\t').append(address).append("\t\t").append(counts.get(address)).append('\n');
+        }
+    }
+}
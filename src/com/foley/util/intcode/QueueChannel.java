@@ -0,0 +1,100 @@
+package com.foley.util.intcode;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An unbounded channel backed by a growing ring buffer of primitive words. It is not thread safe, so it should only be
+ * used by computers that run on the same thread
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public class QueueChannel implements Channel {
+    private long[] buffer;
+    private int head;
+    private int size;
+
+    /**
+     * Creates a new empty channel
+     */
+    public QueueChannel() {
+        buffer = new long[16];
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Creates a new channel holding the given words
+     *
+     * @param values the words to read first
+     */
+    public QueueChannel(long... values) {
+        this();
+        for(long value : values) {
+            write(value);
+        }
+    }
+
+    /**
+     * Returns a new channel holding the same unread words as this one
+     *
+     * @return a copy of this channel
+     */
+    public QueueChannel copy() {
+        QueueChannel copy = new QueueChannel();
+        copy.buffer = buffer.clone();
+        copy.head = head;
+        copy.size = size;
+        return copy;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long read() {
+        if(size == 0) {
+            throw new NoSuchElementException("Cannot read from an empty channel");
+        }
+        long value = buffer[head];
+        head = (head + 1) & (buffer.length - 1);
+        size--;
+        return value;
+    }
+
+    @Override
+    /**
+     * Removes and returns the next word. Nothing else can write to this channel while the thread waits, so an empty
+     * channel is an error rather than a wait
+     *
+     * @return the next word
+     */
+    public long take() {
+        if(size == 0) {
+            throw new IllegalStateException("Cannot wait on an empty single threaded channel");
+        }
+        return read();
+    }
+
+    @Override
+    public void write(long value) {
+        // Double the buffer when it is full, unrolling the ring so it starts at 0
+        if(size == buffer.length) {
+            long[] grown = new long[buffer.length * 2];
+            int tail = buffer.length - head;
+            System.arraycopy(buffer, head, grown, 0, tail);
+            System.arraycopy(buffer, 0, grown, tail, head);
+            buffer = grown;
+            head = 0;
+        }
+        buffer[(head + size) & (buffer.length - 1)] = value;
+        size++;
+    }
+}
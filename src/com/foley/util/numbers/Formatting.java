@@ -22,14 +22,62 @@ public class Formatting {
     }
 
     /**
-     * Splits a string into individual values and converts it to an int array
+     * Splits a string into individual values and converts it to an int array. Comma delimited strings are parsed in
+     * place without splitting, ignoring any commas at the end as splitting does
      *
      * @param str The string to split
      * @param delimeter The delimeter to split on
      * @return A new array of integers
      */
     public static int[] convertToIntArray(String str, String delimeter) {
+        if(",".equals(delimeter)) {
+            return NumberReader.readInts(trimTrailingCommas(str));
+        }
         String[] split = str.split(delimeter);
         return convertToIntArray(split);
     }
+
+    /**
+     * Parses an array of strings to an array of longs
+     *
+     * @param arr The string array
+     * @return A new array of longs
+     */
+    public static long[] convertToLongArray(String[] arr) {
+        long[] newArray = new long[arr.length];
+        for(int i = 0; i < arr.length;i++) {
+            newArray[i] = Long.parseLong(arr[i].trim());
+        }
+        return newArray;
+    }
+
+    /**
+     * Splits a string into individual values and converts it to a long array. Comma delimited strings are parsed in
+     * place without splitting, ignoring any commas at the end as splitting does
+     *
+     * @param str The string to split
+     * @param delimeter The delimeter to split on
+     * @return A new array of longs
+     */
+    public static long[] convertToLongArray(String str, String delimeter) {
+        if(",".equals(delimeter)) {
+            return NumberReader.readLongs(trimTrailingCommas(str));
+        }
+        String[] split = str.split(delimeter);
+        return convertToLongArray(split);
+    }
+
+    /**
+     * Removes the commas at the end of a string, which splitting on commas drops as empty values
+     *
+     * @param str The string
+     * @return The string without its trailing commas
+     */
+    private static String trimTrailingCommas(String str) {
+        int end = str.length();
+        while(end > 0 && str.charAt(end - 1) == ',') {
+            end--;
+        }
+        return str.substring(0, end);
+    }
 }
@@ -0,0 +1,337 @@
+package com.foley.util.numbers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads lists of integers straight from bytes into primitive arrays, without splitting into intermediate strings.
+ * Values are separated by commas, whitespace or both, a single trailing comma is allowed, and each value may start
+ * with a sign. Files are memory mapped and streams are read in fixed size chunks, so a value may span chunk boundaries
+ * <p>
+ * Heap buffers are parsed where they are, but mapped files and other direct buffers are not zero copy: they are bulk
+ * copied through one small scratch chunk and parsed from there. A bulk copy is a plain memory copy, while reading a
+ * direct buffer a byte at a time checks every access, which made parsing mapped files in place around a third slower
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public final class NumberReader {
+    private static final int CHUNK = 1 << 16;
+    private static final int MAP_CHUNK = 1 << 30;
+    // Most values the results start out with room for, however long the input is
+    private static final int MAX_INITIAL = 1 << 16;
+    private static final int MAX_VALUES = Integer.MAX_VALUE - 8;
+
+    // Parser states
+    private static final int START = 0;
+    private static final int NUMBER = 1;
+    private static final int BETWEEN = 2;
+    private static final int AFTER_COMMA = 3;
+    private static final int SIGN = 4;
+
+    private final long min;
+    private final long max;
+    private long[] values;
+    private int size;
+    private int state;
+    private boolean negative;
+    private long value;
+    private long offset;
+
+    /**
+     * Creates a new parser
+     *
+     * @param min the smallest value allowed
+     * @param max the largest value allowed
+     * @param expected the most values the input could hold, which only sizes the results up to a small cap
+     */
+    private NumberReader(long min, long max, long expected) {
+        this.min = min;
+        this.max = max;
+        this.values = new long[(int) Math.max(16, Math.min(expected, MAX_INITIAL))];
+        this.size = 0;
+        this.state = START;
+        this.offset = 0;
+    }
+
+    /**
+     * Reads every long in a file, memory mapping it
+     *
+     * @param path the file
+     * @return the values in the file
+     * @throws IOException if the file cannot be read
+     */
+    public static long[] readLongs(Path path) throws IOException {
+        return readPath(path, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Reads every int in a file, memory mapping it
+     *
+     * @param path the file
+     * @return the values in the file
+     * @throws IOException if the file cannot be read
+     */
+    public static int[] readInts(Path path) throws IOException {
+        return toInts(readPath(path, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Reads every long in a stream until it ends. The stream is not closed
+     *
+     * @param in the stream
+     * @return the values in the stream
+     * @throws IOException if the stream cannot be read
+     */
+    public static long[] readLongs(InputStream in) throws IOException {
+        return readStream(in, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Reads every int in a stream until it ends. The stream is not closed
+     *
+     * @param in the stream
+     * @return the values in the stream
+     * @throws IOException if the stream cannot be read
+     */
+    public static int[] readInts(InputStream in) throws IOException {
+        return toInts(readStream(in, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Reads every long in the remaining bytes of a buffer. The position of the buffer is not moved
+     *
+     * @param buffer the buffer
+     * @return the values in the buffer
+     */
+    public static long[] readLongs(ByteBuffer buffer) {
+        NumberReader reader = new NumberReader(Long.MIN_VALUE, Long.MAX_VALUE, (buffer.remaining() + 1) / 2);
+        reader.parse(buffer.duplicate());
+        return reader.finish();
+    }
+
+    /**
+     * Reads every int in the remaining bytes of a buffer. The position of the buffer is not moved
+     *
+     * @param buffer the buffer
+     * @return the values in the buffer
+     */
+    public static int[] readInts(ByteBuffer buffer) {
+        NumberReader reader = new NumberReader(Integer.MIN_VALUE, Integer.MAX_VALUE, (buffer.remaining() + 1) / 2);
+        reader.parse(buffer.duplicate());
+        return toInts(reader.finish());
+    }
+
+    /**
+     * Reads every long in a string
+     *
+     * @param text the string
+     * @return the values in the string
+     */
+    public static long[] readLongs(CharSequence text) {
+        return readText(text, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Reads every int in a string
+     *
+     * @param text the string
+     * @return the values in the string
+     */
+    public static int[] readInts(CharSequence text) {
+        return toInts(readText(text, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Reads a file by mapping it into memory a region at a time
+     *
+     * @param path the file
+     * @param min the smallest value allowed
+     * @param max the largest value allowed
+     * @return the values in the file
+     * @throws IOException if the file cannot be read
+     */
+    private static long[] readPath(Path path, long min, long max) throws IOException {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            NumberReader reader = new NumberReader(min, max, (length + 1) / 2);
+            for(long position = 0; position < length; position += MAP_CHUNK) {
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_CHUNK, length - position));
+                reader.parse(region);
+            }
+            return reader.finish();
+        }
+    }
+
+    /**
+     * Reads a stream a chunk at a time
+     *
+     * @param in the stream
+     * @param min the smallest value allowed
+     * @param max the largest value allowed
+     * @return the values in the stream
+     * @throws IOException if the stream cannot be read
+     */
+    private static long[] readStream(InputStream in, long min, long max) throws IOException {
+        NumberReader reader = new NumberReader(min, max, 16);
+        byte[] chunk = new byte[CHUNK];
+        int read;
+        while((read = in.read(chunk)) != -1) {
+            reader.parse(chunk, 0, read);
+        }
+        return reader.finish();
+    }
+
+    /**
+     * Reads a string by narrowing it into a byte buffer a chunk at a time. Characters outside of ASCII can never be
+     * part of a valid list, so they are narrowed to a byte that is rejected
+     *
+     * @param text the string
+     * @param min the smallest value allowed
+     * @param max the largest value allowed
+     * @return the values in the string
+     */
+    private static long[] readText(CharSequence text, long min, long max) {
+        int length = text.length();
+        NumberReader reader = new NumberReader(min, max, (length + 1) / 2);
+        byte[] chunk = new byte[Math.min(CHUNK, Math.max(length, 1))];
+        for(int start = 0; start < length; start += chunk.length) {
+            int end = Math.min(length, start + chunk.length);
+            for(int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                chunk[i - start] = c < 0x80 ? (byte) c : (byte) 0x80;
+            }
+            reader.parse(chunk, 0, end - start);
+        }
+        return reader.finish();
+    }
+
+    /**
+     * Parses the remaining bytes of a buffer, copying direct buffers through a scratch chunk since that is faster than
+     * reading them in place
+     *
+     * @param buffer the buffer, which is consumed
+     */
+    private void parse(ByteBuffer buffer) {
+        if(buffer.hasArray()) {
+            parse(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.arrayOffset() + buffer.limit());
+            buffer.position(buffer.limit());
+            return;
+        }
+        byte[] chunk = new byte[Math.min(CHUNK, Math.max(buffer.remaining(), 1))];
+        while(buffer.hasRemaining()) {
+            int length = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, length);
+            parse(chunk, 0, length);
+        }
+    }
+
+    /**
+     * Parses a run of bytes, carrying any partial value over to the next run
+     *
+     * @param bytes the bytes
+     * @param from the first index (inclusive)
+     * @param to the last index (exclusive)
+     */
+    private void parse(byte[] bytes, int from, int to) {
+        int s = state;
+        long v = value;
+        // Values are built up as negatives so the most negative value does not overflow
+        long limit = negative ? min : -max;
+        for(int i = from; i < to; i++) {
+            int c = bytes[i];
+            int digit = c - '0';
+            if(digit >= 0 && digit <= 9) {
+                if(s != NUMBER) {
+                    if(s != SIGN) {
+                        negative = false;
+                        limit = -max;
+                    }
+                    s = NUMBER;
+                    v = 0;
+                }
+                if(v < limit / 10 || v * 10 < limit + digit) {
+                    throw new NumberFormatException("Value out of range at offset " + (offset + i - from));
+                }
+                v = v * 10 - digit;
+            } else if(c == ',') {
+                if(s == START || s == AFTER_COMMA || s == SIGN) {
+                    throw new NumberFormatException("Missing value before comma at offset " + (offset + i - from));
+                }
+                if(s == NUMBER) {
+                    add(negative ? v : -v);
+                }
+                s = AFTER_COMMA;
+            } else if(c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                if(s == SIGN) {
+                    throw new NumberFormatException("Missing digits after sign at offset " + (offset + i - from));
+                }
+                if(s == NUMBER) {
+                    add(negative ? v : -v);
+                    s = BETWEEN;
+                }
+            } else if((c == '-' || c == '+') && s != NUMBER && s != SIGN) {
+                negative = c == '-';
+                limit = negative ? min : -max;
+                s = SIGN;
+            } else {
+                throw new NumberFormatException("Unexpected character '" + (char) (c & 0xFF) + "' at offset " + (offset + i - from));
+            }
+        }
+        offset += to - from;
+        state = s;
+        value = v;
+    }
+
+    /**
+     * Adds a parsed value to the results
+     *
+     * @param v the value
+     */
+    private void add(long v) {
+        if(size == values.length) {
+            // Error out if the results would not fit in an array
+            if(size == MAX_VALUES) {
+                throw new NumberFormatException("Too many values to read into an array");
+            }
+            values = Arrays.copyOf(values, (int) Math.min(MAX_VALUES, values.length * 2L));
+        }
+        values[size++] = v;
+    }
+
+    /**
+     * Ends parsing, adding the last value if the input ended inside one
+     *
+     * @return the parsed values
+     */
+    private long[] finish() {
+        if(state == SIGN) {
+            throw new NumberFormatException("Missing digits after sign at offset " + offset);
+        }
+        if(state == NUMBER) {
+            add(negative ? value : -value);
+        }
+        state = START;
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Narrows values that are known to be in int range
+     *
+     * @param values the values
+     * @return the values as ints
+     */
+    private static int[] toInts(long[] values) {
+        int[] ints = new int[values.length];
+        for(int i = 0; i < values.length; i++) {
+            ints[i] = (int) values[i];
+        }
+        return ints;
+    }
+}
@@ -0,0 +1,494 @@
+package com.foley.util.numbers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Allocation free parsing of numbers and grids out of text. Every method works on a range of a CharSequence or a byte
+ * array without creating a String per token. Byte parsing reads eight bytes at a time, finding the end of a run of
+ * digits and converting up to eight digits at once with SWAR (SIMD within a register) arithmetic
+ *
+ * @author Evan Foley
+ * @version 17 Oct 2026
+ */
+public final class Parsing {
+    // SWAR constants, one byte per lane
+    private static final long ZEROS = 0x3030303030303030L;
+    private static final long ABOVE_NINE = 0x4646464646464646L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    // Powers of ten up to eight digits
+    private static final long[] POWERS = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000};
+
+    /**
+     * Utility class, not instantiable
+     */
+    private Parsing() {
+    }
+
+    /**
+     * Parses a decimal int from a range of characters, with an optional leading sign
+     *
+     * @param s The characters
+     * @param from The first index (inclusive)
+     * @param to The last index (exclusive)
+     * @return The parsed value
+     */
+    public static int parseInt(CharSequence s, int from, int to) {
+        long value = parseLong(s, from, to);
+        if(value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Value out of int range: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parses a decimal long from a range of characters, with an optional leading sign
+     *
+     * @param s The characters
+     * @param from The first index (inclusive)
+     * @param to The last index (exclusive)
+     * @return The parsed value
+     */
+    public static long parseLong(CharSequence s, int from, int to) {
+        checkRange(s.length(), from, to);
+        boolean negative = false;
+        int i = from;
+        if(i < to && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+        if(i == to) {
+            throw new NumberFormatException("No digits at index " + from);
+        }
+        // Build up the value as a negative so the most negative long does not overflow
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+        for(; i < to; i++) {
+            int digit = s.charAt(i) - '0';
+            if(digit < 0 || digit > 9) {
+                throw new NumberFormatException("Unexpected character '" + s.charAt(i) + "' at index " + i);
+            }
+            value = accumulate(value, digit, limit, i);
+        }
+        return negative ? value : -value;
+    }
+
+    /**
+     * Parses a decimal long from a range of ASCII bytes, with an optional leading sign
+     *
+     * @param b The bytes
+     * @param from The first index (inclusive)
+     * @param to The last index (exclusive)
+     * @return The parsed value
+     */
+    public static long parseLong(byte[] b, int from, int to) {
+        checkRange(b.length, from, to);
+        ByteBuffer words = words(b);
+        boolean negative = false;
+        int i = from;
+        if(i < to && (b[i] == '-' || b[i] == '+')) {
+            negative = b[i] == '-';
+            i++;
+        }
+        if(i == to) {
+            throw new NumberFormatException("No digits at index " + from);
+        }
+        int end = digitRun(b, words, i, to);
+        if(end != to) {
+            throw new NumberFormatException("Unexpected character '" + (char) (b[end] & 0xFF) + "' at index " + end);
+        }
+        return digitsToLong(b, words, i, to, negative);
+    }
+
+    /**
+     * Returns every integer in a text, read as an optional minus sign followed by digits. Anything else separates the
+     * values, so "x=-3, y=12..15" holds -3, 12 and 15
+     *
+     * @param s The text
+     * @return The integers in the text
+     */
+    public static int[] extractInts(CharSequence s) {
+        return toInts(extractLongs(s));
+    }
+
+    /**
+     * Returns every long in a text, read as an optional minus sign followed by digits
+     *
+     * @param s The text
+     * @return The longs in the text
+     */
+    public static long[] extractLongs(CharSequence s) {
+        long[] values = new long[16];
+        int size = 0;
+        int length = s.length();
+        int i = 0;
+        while(i < length) {
+            char c = s.charAt(i);
+            boolean negative = c == '-' && i + 1 < length && isDigit(s.charAt(i + 1));
+            if(!negative && !isDigit(c)) {
+                i++;
+                continue;
+            }
+            int start = negative ? i + 1 : i;
+            int end = start;
+            while(end < length && isDigit(s.charAt(end))) {
+                end++;
+            }
+            if(size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = parseLong(s, negative ? i : start, end);
+            i = end;
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Returns every integer in a range of ASCII bytes, read as an optional minus sign followed by digits
+     *
+     * @param b The bytes
+     * @param from The first index (inclusive)
+     * @param to The last index (exclusive)
+     * @return The integers in the bytes
+     */
+    public static int[] extractInts(byte[] b, int from, int to) {
+        return toInts(extractLongs(b, from, to));
+    }
+
+    /**
+     * Returns every long in a range of ASCII bytes, read as an optional minus sign followed by digits
+     *
+     * @param b The bytes
+     * @param from The first index (inclusive)
+     * @param to The last index (exclusive)
+     * @return The longs in the bytes
+     */
+    public static long[] extractLongs(byte[] b, int from, int to) {
+        checkRange(b.length, from, to);
+        ByteBuffer words = words(b);
+        long[] values = new long[16];
+        int size = 0;
+        int i = from;
+        while(i < to) {
+            byte c = b[i];
+            boolean negative = c == '-' && i + 1 < to && isDigit(b[i + 1]);
+            if(!negative && !isDigit(c)) {
+                i++;
+                continue;
+            }
+            int start = negative ? i + 1 : i;
+            int end = digitRun(b, words, start, to);
+            if(size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = digitsToLong(b, words, start, end, negative);
+            i = end;
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Returns every integer in the remaining bytes of a buffer. The position of the buffer is not moved
+     *
+     * @param buffer The buffer
+     * @return The integers in the buffer
+     */
+    public static int[] extractInts(ByteBuffer buffer) {
+        return toInts(extractLongs(buffer));
+    }
+
+    /**
+     * Returns every long in the remaining bytes of a buffer. The position of the buffer is not moved. Direct buffers
+     * are copied to the heap first
+     *
+     * @param buffer The buffer
+     * @return The longs in the buffer
+     */
+    public static long[] extractLongs(ByteBuffer buffer) {
+        if(buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            return extractLongs(buffer.array(), offset + buffer.position(), offset + buffer.limit());
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return extractLongs(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Parses a grid of single digits, one row per line. Rows may differ in length, and a trailing line break is ignored
+     *
+     * @param s The text
+     * @return The digits, indexed by row then column
+     */
+    public static int[][] digitGrid(CharSequence s) {
+        List<int[]> rows = new ArrayList<>();
+        int length = s.length();
+        int start = 0;
+        while(start < length) {
+            int end = lineEnd(s, start);
+            int stop = end > start && s.charAt(end - 1) == '\r' ? end - 1 : end;
+            int[] row = new int[stop - start];
+            for(int i = start; i < stop; i++) {
+                int digit = s.charAt(i) - '0';
+                if(digit < 0 || digit > 9) {
+                    throw new NumberFormatException("Unexpected character '" + s.charAt(i) + "' at index " + i);
+                }
+                row[i - start] = digit;
+            }
+            rows.add(row);
+            start = end + 1;
+        }
+        return rows.toArray(new int[0][]);
+    }
+
+    /**
+     * Parses a grid of single digits from ASCII bytes, one row per line
+     *
+     * @param b The bytes
+     * @param from The first index (inclusive)
+     * @param to The last index (exclusive)
+     * @return The digits, indexed by row then column
+     */
+    public static int[][] digitGrid(byte[] b, int from, int to) {
+        checkRange(b.length, from, to);
+        ByteBuffer words = words(b);
+        List<int[]> rows = new ArrayList<>();
+        int start = from;
+        while(start < to) {
+            int end = start;
+            while(end < to && b[end] != '\n') {
+                end++;
+            }
+            int stop = end > start && b[end - 1] == '\r' ? end - 1 : end;
+            // Error out if the row is not one run of digits
+            int bad = digitRun(b, words, start, stop);
+            if(bad != stop) {
+                throw new NumberFormatException("Unexpected character '" + (char) (b[bad] & 0xFF) + "' at index " + bad);
+            }
+            int[] row = new int[stop - start];
+            for(int i = start; i < stop; i++) {
+                row[i - start] = b[i] - '0';
+            }
+            rows.add(row);
+            start = end + 1;
+        }
+        return rows.toArray(new int[0][]);
+    }
+
+    /**
+     * Splits text into a grid of characters, one row per line. Rows may differ in length, and a trailing line break is
+     * ignored
+     *
+     * @param s The text
+     * @return The characters, indexed by row then column
+     */
+    public static char[][] charGrid(CharSequence s) {
+        List<char[]> rows = new ArrayList<>();
+        int length = s.length();
+        int start = 0;
+        while(start < length) {
+            int end = lineEnd(s, start);
+            int stop = end > start && s.charAt(end - 1) == '\r' ? end - 1 : end;
+            char[] row = new char[stop - start];
+            for(int i = start; i < stop; i++) {
+                row[i - start] = s.charAt(i);
+            }
+            rows.add(row);
+            start = end + 1;
+        }
+        return rows.toArray(new char[0][]);
+    }
+
+    /**
+     * Returns the index just past the run of ASCII digits starting at an index, scanning eight bytes at a time
+     *
+     * @param b The bytes
+     * @param words The bytes viewed as little endian longs
+     * @param from The first index of the run
+     * @param to The index the run cannot reach past
+     * @return The index of the first non digit, or to
+     */
+    private static int digitRun(byte[] b, ByteBuffer words, int from, int to) {
+        int i = from;
+        while(i + 8 <= to) {
+            long mask = nonDigits(words.getLong(i));
+            if(mask != 0) {
+                return i + (Long.numberOfTrailingZeros(mask) >>> 3);
+            }
+            i += 8;
+        }
+        while(i < to && isDigit(b[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Converts a run of ASCII digits to a long, eight digits at a time
+     *
+     * @param b The bytes
+     * @param words The bytes viewed as little endian longs
+     * @param from The first digit (inclusive)
+     * @param to The last digit (exclusive)
+     * @param negative True if the value is negative
+     * @return The value
+     */
+    private static long digitsToLong(byte[] b, ByteBuffer words, int from, int to, boolean negative) {
+        // Skip leading zeros so only significant digits count towards overflow
+        while(from < to - 1 && b[from] == '0') {
+            from++;
+        }
+        int digits = to - from;
+        if(digits > 19) {
+            throw new NumberFormatException("Value out of range at index " + from);
+        }
+        // Eighteen digits cannot overflow, so convert them in whole chunks of eight
+        int fast = from + Math.min(digits, 18);
+        long value = 0;
+        int i = from;
+        while(i + 8 <= fast) {
+            value = value * 100_000_000L + eightDigits(words.getLong(i) - ZEROS);
+            i += 8;
+        }
+        if(i < fast) {
+            int rest = fast - i;
+            long tail = i + 8 <= b.length ? words.getLong(i) : loadPartial(b, i, rest);
+            // Keep the remaining digits and shift them up so the lanes below them read as leading zeros
+            long lanes = (tail - ZEROS) << ((8 - rest) << 3);
+            value = value * POWERS[rest] + eightDigits(lanes);
+        }
+        if(digits == 19) {
+            // The last digit of the longest values is checked, building up a negative as the most negative long has
+            // no positive counterpart
+            long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+            long last = accumulate(-value, b[fast] - '0', limit, fast);
+            return negative ? last : -last;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Converts eight digit values, one per byte with the most significant digit in the lowest byte, to a number
+     *
+     * @param lanes The digit values
+     * @return The number they spell
+     */
+    private static long eightDigits(long lanes) {
+        // Combine neighbouring digits into pairs, then pairs into fours, then fours into the whole
+        lanes = lanes * 10 + (lanes >>> 8);
+        return (((lanes & 0x000000FF000000FFL) * (100 + (1_000_000L << 32)))
+                + (((lanes >>> 16) & 0x000000FF000000FFL) * (1 + (10_000L << 32)))) >>> 32;
+    }
+
+    /**
+     * Flags the bytes of a word that are not ASCII digits. Only the lowest flagged byte is exact, which is all a scan
+     * for the end of a run needs
+     *
+     * @param word Eight bytes, the first in the lowest lane
+     * @return The high bit of each non digit lane set
+     */
+    private static long nonDigits(long word) {
+        return ((word + ABOVE_NINE) | (word - ZEROS)) & HIGH_BITS;
+    }
+
+    /**
+     * Views bytes as little endian longs, so eight of them can be read with one load
+     *
+     * @param b The bytes
+     * @return A view of the bytes
+     */
+    private static ByteBuffer words(byte[] b) {
+        return ByteBuffer.wrap(b).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Reads fewer than eight bytes as a little endian long
+     *
+     * @param b The bytes
+     * @param i The index of the first byte
+     * @param count The number of bytes to read
+     * @return The bytes as a long, the first in the lowest lane
+     */
+    private static long loadPartial(byte[] b, int i, int count) {
+        long word = 0;
+        for(int k = 0; k < count; k++) {
+            word |= (b[i + k] & 0xFFL) << (k << 3);
+        }
+        return word;
+    }
+
+    /**
+     * Appends a digit to a value being built up as a negative, checking for overflow
+     *
+     * @param value The value so far
+     * @param digit The next digit
+     * @param limit The most negative value allowed
+     * @param index The index of the digit, for error messages
+     * @return The new value
+     */
+    private static long accumulate(long value, int digit, long limit, int index) {
+        if(value < limit / 10 || value * 10 < limit + digit) {
+            throw new NumberFormatException("Value out of range at index " + index);
+        }
+        return value * 10 - digit;
+    }
+
+    /**
+     * Returns the index of the next line break, or the length of the text
+     *
+     * @param s The text
+     * @param start The index to start from
+     * @return The index of the next line break
+     */
+    private static int lineEnd(CharSequence s, int start) {
+        int length = s.length();
+        int end = start;
+        while(end < length && s.charAt(end) != '\n') {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Returns true if a character is an ASCII digit
+     *
+     * @param c The character
+     * @return True if the character is a digit
+     */
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Errors out if a range does not fit in an array or sequence
+     *
+     * @param length The length of the array or sequence
+     * @param from The first index (inclusive)
+     * @param to The last index (exclusive)
+     */
+    private static void checkRange(int length, int from, int to) {
+        if(from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") is not within length " + length);
+        }
+    }
+
+    /**
+     * Narrows longs to ints, checking each is in range
+     *
+     * @param values The values
+     * @return The values as ints
+     */
+    private static int[] toInts(long[] values) {
+        int[] ints = new int[values.length];
+        for(int i = 0; i < values.length; i++) {
+            if(values[i] < Integer.MIN_VALUE || values[i] > Integer.MAX_VALUE) {
+                throw new NumberFormatException("Value out of int range: " + values[i]);
+            }
+            ints[i] = (int) values[i];
+        }
+        return ints;
+    }
+}